@@ -0,0 +1,72 @@
+// Carga de leitura com 1 mil a 10 mil clientes simultâneos, para comparar threads de plataforma e virtuais.
+// Execute uma vez com VIRTUAL_THREADS_ENABLED=false e outra com true na API, com o mesmo banco e o mesmo
+// DS_POOL_SIZE, e compare http_req_duration, http_req_failed e http_reqs. Instruções no README.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e MAX_VUS=10000 loadtest/tasks-concurrency.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '10000', 10);
+const SEED_TASKS = parseInt(__ENV.SEED_TASKS || '200', 10);
+const THINK_TIME = parseFloat(__ENV.THINK_TIME || '0.1');
+const TASKS = `${BASE_URL}/api/v1/tasks`;
+
+export const options = {
+  scenarios: {
+    readers: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Math.min(1000, MAX_VUS) },
+        { duration: '1m', target: Math.min(1000, MAX_VUS) },
+        { duration: '1m', target: Math.min(5000, MAX_VUS) },
+        { duration: '1m', target: Math.min(5000, MAX_VUS) },
+        { duration: '1m', target: MAX_VUS },
+        { duration: '2m', target: MAX_VUS },
+        { duration: '30s', target: 0 },
+      ],
+      gracefulRampDown: '30s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    'http_req_duration{endpoint:get}': ['p(99)<1000'],
+    'http_req_duration{endpoint:list}': ['p(99)<2000'],
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(99)', 'max'],
+};
+
+// Nomes são únicos: o prefixo com o horário permite repetir a execução sobre o mesmo banco
+export function setup() {
+  const prefix = `load-${Date.now()}`;
+  const ids = [];
+  for (let i = 0; i < SEED_TASKS; i++) {
+    const res = http.post(TASKS, JSON.stringify({
+      name: `${prefix}-${i}`,
+      description: 'Tarefa criada pelo teste de carga',
+      status: 'PENDING',
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'seed created': (r) => r.status === 201 });
+    if (res.status === 201) {
+      ids.push(res.json('id'));
+    }
+  }
+  if (ids.length === 0) {
+    throw new Error(`No task could be created at ${TASKS}`);
+  }
+  return { ids };
+}
+
+export default function (data) {
+  if (Math.random() < 0.8) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${TASKS}/${id}`, { tags: { endpoint: 'get', name: 'GET /tasks/{id}' } });
+    check(res, { 'get 200': (r) => r.status === 200 });
+  } else {
+    const page = Math.floor(Math.random() * 5);
+    const res = http.get(`${TASKS}?page=${page}&size=20`, { tags: { endpoint: 'list', name: 'GET /tasks' } });
+    check(res, { 'list 200': (r) => r.status === 200 });
+  }
+  sleep(THINK_TIME);
+}
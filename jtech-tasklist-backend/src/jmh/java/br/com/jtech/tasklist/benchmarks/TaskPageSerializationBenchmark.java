@@ -0,0 +1,99 @@
+package br.com.jtech.tasklist.benchmarks;
+
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de uma página da listagem em JSON:
+ * <ul>
+ *   <li>{@code springPage}: o {@link PageImpl} devolvido antes, com o serializador de beans em cada tarefa;</li>
+ *   <li>{@code pageResponse}: o envelope {@link PageResponse} com o serializador próprio de {@link TaskResponse}.</li>
+ * </ul>
+ * O tamanho de cada corpo é impresso no início da execução; o tempo e, com {@code -Pjmh.profilers=gc},
+ * os bytes alocados vêm do JMH:
+ * {@code ./gradlew jmh -Pjmh.includes=TaskPageSerializationBenchmark -Pjmh.profilers=gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Thread)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    // Desliga o serializador próprio, como era a serialização de TaskResponse antes dele
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface BeanSerialization {
+    }
+
+    private final ObjectMapper beanMapper = mapper().addMixIn(TaskResponse.class, BeanSerialization.class).build();
+    private final ObjectMapper tunedMapper = mapper().build();
+
+    private Page<TaskResponse> springPage;
+    private PageResponse<TaskResponse> pageResponse;
+
+    private static JsonMapper.Builder mapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        List<TaskResponse> content = new ArrayList<>(pageSize);
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TaskResponse(UUID.randomUUID().toString(), "Task " + i, "Description of task " + i,
+                    TaskStatus.values()[i % TaskStatus.values().length], now, (long) i % 7));
+        }
+        long total = pageSize * 25L;
+        springPage = new PageImpl<>(content, PageRequest.of(3, pageSize, Sort.by("createdAt")), total);
+        pageResponse = new PageResponse<>(content, 3, pageSize, total, 25);
+
+        System.out.printf("%nPayload (%d tarefas): springPage=%d bytes, pageResponse=%d bytes%n", pageSize,
+                springPage().length, pageResponse().length);
+    }
+
+    @Benchmark
+    public byte[] springPage() throws JsonProcessingException {
+        return beanMapper.writeValueAsBytes(springPage);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return tunedMapper.writeValueAsBytes(pageResponse);
+    }
+}
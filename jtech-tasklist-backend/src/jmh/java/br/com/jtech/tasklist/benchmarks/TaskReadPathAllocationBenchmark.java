@@ -0,0 +1,92 @@
+package br.com.jtech.tasklist.benchmarks;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.mapper.TaskInputMapper;
+import br.com.jtech.tasklist.adapters.output.mapper.TaskPersistenceMapper;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alocação por página de listagem, do registro lido até o {@link TaskResponse}:
+ * <ul>
+ *   <li>{@code entityPath}: TaskEntity → Task (setters com validação) → TaskOutput → TaskResponse;</li>
+ *   <li>{@code projectionPath}: TaskView (projeção JPQL) → TaskOutput → TaskResponse.</li>
+ * </ul>
+ * Executar com o profiler de GC para obter bytes por operação:
+ * {@code ./gradlew jmh -Pjmh.includes=TaskReadPathAllocationBenchmark -Pjmh.profilers=gc}.
+ * O custo do contexto de persistência (snapshot para dirty checking e entrada no
+ * first-level cache de cada entidade) não aparece aqui e amplia a diferença no caminho real.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Thread)
+public class TaskReadPathAllocationBenchmark {
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private final TaskPersistenceMapper persistenceMapper = Mappers.getMapper(TaskPersistenceMapper.class);
+    private final TaskInputMapper inputMapper = Mappers.getMapper(TaskInputMapper.class);
+
+    private List<TaskEntity> entities;
+    private List<TaskView> views;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = new ArrayList<>(pageSize);
+        views = new ArrayList<>(pageSize);
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            UUID id = UUID.randomUUID();
+            TaskEntity entity = new TaskEntity("Task " + i, "Description " + i, TaskStatus.PENDING);
+            entity.setId(id);
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            entity.setVersion(0L);
+            entities.add(entity);
+            views.add(new TaskView(id, entity.getName(), entity.getDescription(), entity.getStatus(), now, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponse> entityPath() {
+        List<TaskResponse> page = new ArrayList<>(entities.size());
+        for (TaskEntity entity : entities) {
+            page.add(inputMapper.toResponse(new TaskOutput(persistenceMapper.toDomain(entity))));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TaskResponse> projectionPath() {
+        List<TaskResponse> page = new ArrayList<>(views.size());
+        for (TaskView view : views) {
+            page.add(inputMapper.toResponse(new TaskOutput(view)));
+        }
+        return page;
+    }
+}
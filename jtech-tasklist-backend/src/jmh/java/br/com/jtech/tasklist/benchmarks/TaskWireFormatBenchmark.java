@@ -0,0 +1,125 @@
+package br.com.jtech.tasklist.benchmarks;
+
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protobuf.TaskProtobufCodec;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de codificar e decodificar uma página de tarefas em cada formato aceito pela API:
+ * JSON (com o {@code ObjectMapper} de {@link Jsons}), CBOR, Smile e Protobuf ({@link TaskProtobufCodec}).
+ * O tamanho de cada corpo é impresso no início da execução:
+ * {@code ./gradlew jmh -Pjmh.includes=TaskWireFormatBenchmark -Pjmh.profilers=gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@State(Scope.Thread)
+public class TaskWireFormatBenchmark {
+
+    private static final TypeReference<PageResponse<TaskResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private final ObjectMapper jsonMapper = Jsons.getMapper();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    private PageResponse<TaskResponse> page;
+    private byte[] json;
+    private byte[] cbor;
+    private byte[] smile;
+    private byte[] protobuf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<TaskResponse> content = new ArrayList<>(pageSize);
+        OffsetDateTime now = OffsetDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TaskResponse(UUID.randomUUID().toString(), "Task " + i, "Description of task " + i,
+                    TaskStatus.values()[i % TaskStatus.values().length], now, (long) i % 7));
+        }
+        page = new PageResponse<>(content, 3, pageSize, pageSize * 25L, 25);
+        json = encodeJson();
+        cbor = encodeCbor();
+        smile = encodeSmile();
+        protobuf = encodeProtobuf();
+
+        System.out.printf("%nPayload (%d tarefas): json=%d, cbor=%d, smile=%d, protobuf=%d bytes%n",
+                pageSize, json.length, cbor.length, smile.length, protobuf.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smileMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pageSize * 128);
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        TaskProtobufCodec.writePage(page, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> decodeJson() throws IOException {
+        return jsonMapper.readValue(json, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> decodeCbor() throws IOException {
+        return cborMapper.readValue(cbor, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> decodeSmile() throws IOException {
+        return smileMapper.readValue(smile, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> decodeProtobuf() throws IOException {
+        return TaskProtobufCodec.readPage(CodedInputStream.newInstance(protobuf));
+    }
+}
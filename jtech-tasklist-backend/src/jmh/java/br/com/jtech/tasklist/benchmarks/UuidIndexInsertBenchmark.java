@@ -0,0 +1,109 @@
+package br.com.jtech.tasklist.benchmarks;
+
+import br.com.jtech.tasklist.config.infra.utils.UuidV7;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Simula as folhas do índice B-tree da chave primária de {@code tasks} e mede o tempo de
+ * inserção e o tamanho final (páginas e preenchimento) para chaves v4 e v7.
+ * <p>
+ * Cada página comporta {@link #KEYS_PER_PAGE} chaves, aproximadamente o que cabe em uma
+ * página de 8 KB do PostgreSQL com tuplas de índice UUID. Como no PostgreSQL, uma página
+ * cheia é dividida ao meio, exceto a página mais à direita, que é dividida deixando 90%
+ * das chaves na página original. O resultado no banco real pode ser obtido com
+ * {@code src/jmh/sql/uuid_v4_vs_v7_index.sql}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class UuidIndexInsertBenchmark {
+
+    static final int KEYS_PER_PAGE = 256;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    private Supplier<UUID> generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = "v7".equals(version) ? UuidV7::next : UUID::randomUUID;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class IndexSize {
+        public long leafPages;
+        public long pageSplits;
+        public double fillPercent;
+    }
+
+    @Benchmark
+    public LeafIndex insert(IndexSize size) {
+        LeafIndex index = new LeafIndex();
+        for (int i = 0; i < rows; i++) {
+            index.insert(generator.get());
+        }
+        size.leafPages = index.pages.size();
+        size.pageSplits = index.splits;
+        size.fillPercent = 100.0 * rows / ((double) index.pages.size() * KEYS_PER_PAGE);
+        return index;
+    }
+
+    static final class LeafIndex {
+        // Páginas indexadas pela menor chave que podem conter
+        final TreeMap<UUID, List<UUID>> pages = new TreeMap<>();
+        long splits;
+
+        LeafIndex() {
+            pages.put(new UUID(Long.MIN_VALUE, Long.MIN_VALUE), new ArrayList<>(KEYS_PER_PAGE + 1));
+        }
+
+        void insert(UUID key) {
+            Map.Entry<UUID, List<UUID>> entry = pages.floorEntry(key);
+            List<UUID> page = entry.getValue();
+            int position = Collections.binarySearch(page, key);
+            page.add(position < 0 ? -position - 1 : position, key);
+            if (page.size() > KEYS_PER_PAGE) {
+                split(entry.getKey(), page);
+            }
+        }
+
+        private void split(UUID lowKey, List<UUID> page) {
+            boolean rightmost = pages.higherKey(lowKey) == null;
+            int keep = rightmost ? (int) (KEYS_PER_PAGE * 0.9) : page.size() / 2;
+            List<UUID> right = new ArrayList<>(page.subList(keep, page.size()));
+            page.subList(keep, page.size()).clear();
+            right.ensureCapacity(KEYS_PER_PAGE + 1);
+            pages.put(right.get(0), right);
+            splits++;
+        }
+    }
+}
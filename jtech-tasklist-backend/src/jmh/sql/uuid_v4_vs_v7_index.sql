@@ -0,0 +1,32 @@
+-- Compara, no PostgreSQL, o tempo de inserção e o tamanho do índice da chave primária
+-- com UUIDs v4 (gen_random_uuid) e v7. Executar em um banco descartável:
+--   psql -d tasklist_bench -f src/jmh/sql/uuid_v4_vs_v7_index.sql
+\timing on
+
+-- UUID v7 a partir de gen_random_uuid(): troca os 48 bits iniciais pelo instante em ms
+-- e ajusta a versão. Sequência estritamente crescente não é garantida dentro do mesmo ms,
+-- ao contrário de UuidV7 na aplicação, mas a localidade no índice é equivalente.
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+SELECT encode(
+    set_bit(set_bit(
+        overlay(uuid_send(gen_random_uuid())
+                PLACING substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                FROM 1 FOR 6),
+        52, 1), 53, 1), 'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_tasks_v4;
+DROP TABLE IF EXISTS bench_tasks_v7;
+CREATE TABLE bench_tasks_v4 (id uuid PRIMARY KEY, name varchar(255) NOT NULL);
+CREATE TABLE bench_tasks_v7 (id uuid PRIMARY KEY, name varchar(255) NOT NULL);
+
+INSERT INTO bench_tasks_v4 SELECT gen_random_uuid(), 'task ' || g FROM generate_series(1, 1000000) g;
+INSERT INTO bench_tasks_v7 SELECT bench_uuid_v7(), 'task ' || g FROM generate_series(1, 1000000) g;
+
+SELECT 'v4' AS version, pg_size_pretty(pg_relation_size('bench_tasks_v4_pkey')) AS pk_index_size
+UNION ALL
+SELECT 'v7', pg_size_pretty(pg_relation_size('bench_tasks_v7_pkey'));
+
+DROP TABLE bench_tasks_v4;
+DROP TABLE bench_tasks_v7;
+DROP FUNCTION bench_uuid_v7();
@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.adapters.input.cli;
+
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.adapters.input.files.TaskFileFormat;
+import br.com.jtech.tasklist.adapters.input.mapper.TaskInputMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Importa um arquivo de tarefas na inicialização, para cargas grandes demais para uma requisição HTTP.
+ * Ativado por {@code --tasks.import.file=<caminho>}; o formato vem de {@code --tasks.import.format}
+ * ou, na falta dele, da extensão do arquivo. Com {@code --spring.main.web-application-type=none}
+ * a aplicação termina ao final da importação.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "tasks.import", name = "file")
+public class TaskImportRunner implements ApplicationRunner {
+
+    private static final int READ_BUFFER_SIZE = 256 * 1024;
+
+    private final TaskFacade taskFacade;
+    private final TaskInputMapper taskInputMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tasks.import.file}")
+    private Path file;
+
+    @Value("${tasks.import.format:}")
+    private String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var fileFormat = format.isBlank()
+                ? TaskFileFormat.fromFileName(file.getFileName().toString())
+                : TaskFileFormat.from(format);
+        log.info("::: Importing tasks from {} ({}).", file, fileFormat);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE)) {
+            var requests = fileFormat.reader(in, objectMapper);
+            var result = taskFacade.importTasks(taskInputMapper.toCreateCommands(requests));
+            log.info("::: Task import finished: read={}, imported={}, rejected={}, duplicatedInInput={}, "
+                            + "alreadyExisting={}, elapsed={}ms, rowsPerSecond={}",
+                    result.read(), result.imported(), result.rejected(), result.duplicatedInInput(),
+                    result.alreadyExisting(), result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  @(#)TaskAdminController.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.dto.ArchiveResponse;
+import br.com.jtech.tasklist.adapters.input.dto.ReconcileResponse;
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.adapters.input.mapper.TaskInputMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller para operações de manutenção sobre as tarefas.
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class TaskAdminController {
+
+    private final TaskFacade taskFacade;
+    private final TaskInputMapper taskInputMapper;
+
+    /**
+     * Executa imediatamente o arquivamento das tarefas removidas, com os mesmos limites
+     * de lote e pausa da execução agendada.
+     *
+     * @return quantidade de tarefas arquivadas, lotes executados e duração
+     */
+    @PostMapping("/tasks:archive")
+    public ResponseEntity<ArchiveResponse> archive() {
+        var result = taskFacade.archiveDeletedTasks();
+        return ResponseEntity.ok(taskInputMapper.toArchiveResponse(result));
+    }
+
+    /**
+     * Recalcula imediatamente os contadores de tarefas por status a partir da tabela de tarefas.
+     *
+     * @return soma das divergências corrigidas
+     */
+    @PostMapping("/tasks/stats:reconcile")
+    public ResponseEntity<ReconcileResponse> reconcileStatistics() {
+        return ResponseEntity.ok(new ReconcileResponse(taskFacade.reconcileTaskStatistics()));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  @(#)TaskBulkController.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.dto.BatchItemResponse;
+import br.com.jtech.tasklist.adapters.input.dto.BatchResponse;
+import br.com.jtech.tasklist.adapters.input.dto.BulkTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.BulkTaskResponse;
+import br.com.jtech.tasklist.adapters.input.dto.CreateTaskBatchRequest;
+import br.com.jtech.tasklist.adapters.input.dto.ImportResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.adapters.input.files.TaskFileFormat;
+import br.com.jtech.tasklist.adapters.input.mapper.TaskInputMapper;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Controller para operações de Task sobre vários registros em uma única requisição.
+ * Os caminhos usam o sufixo de ação ({@code /tasks:batch}), que não pode ser combinado
+ * com o mapeamento {@code /api/v1/tasks} do {@link TaskController}.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class TaskBulkController {
+
+    private final TaskFacade taskFacade;
+    private final TaskInputMapper taskInputMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Cria várias tarefas em lote. Itens com nome repetido na própria requisição
+     * ou já existente são rejeitados individualmente, sem impedir os demais.
+     *
+     * @param request lista de tarefas a serem criadas
+     * @return resultado de cada item, na mesma ordem da requisição
+     */
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<BatchResponse<TaskResponse>> createBatch(@Valid @RequestBody CreateTaskBatchRequest request) {
+        var commands = request.tasks().stream().map(taskInputMapper::toCreateCommand).toList();
+        var results = taskFacade.createTasksInBatch(commands);
+        var items = results.stream()
+                .map(result -> new BatchItemResponse<>(
+                        result.index(),
+                        result.status(),
+                        result.value() != null ? taskInputMapper.toResponse(result.value()) : null,
+                        result.error()))
+                .toList();
+        int created = (int) results.stream().filter(BatchItemResult::isCreated).count();
+        return ResponseEntity.ok(new BatchResponse<>(created, results.size() - created, items));
+    }
+
+    /**
+     * Altera o status ou remove (soft delete) várias tarefas com um único UPDATE,
+     * selecionando-as por uma lista de IDs ou por um filtro.
+     *
+     * @param request seleção (ids ou filter) e operação (SET_STATUS ou DELETE)
+     * @return operação aplicada e quantidade de tarefas alteradas
+     */
+    @PatchMapping("/tasks:bulk")
+    public ResponseEntity<BulkTaskResponse> applyBulk(@Valid @RequestBody BulkTaskRequest request) {
+        var result = taskFacade.applyBulkOperation(taskInputMapper.toBulkCommand(request));
+        return ResponseEntity.ok(taskInputMapper.toBulkResponse(result));
+    }
+
+    /**
+     * Importa tarefas de um arquivo NDJSON ou CSV enviado no corpo da requisição.
+     * O corpo é lido sob demanda e copiado para o banco sem passar pelo JPA; nomes repetidos
+     * no arquivo ou já usados por tarefas ativas são descartados, e registros inválidos são contados
+     * como rejeitados. Um registro que não pode ser lido interrompe a importação sem gravar nada.
+     *
+     * @param format formato do corpo ({@code ndjson} ou {@code csv})
+     * @param body conteúdo do arquivo
+     * @return quantidades importadas e descartadas, duração e vazão
+     */
+    @PostMapping("/tasks:import")
+    public ResponseEntity<ImportResponse> importTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) {
+        var requests = TaskFileFormat.from(format).reader(body, objectMapper);
+        var result = taskFacade.importTasks(taskInputMapper.toCreateCommands(requests));
+        return ResponseEntity.ok(taskInputMapper.toImportResponse(result));
+    }
+}
@@ -13,17 +13,40 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.CursorPageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.PatchTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.SliceResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskFilterRequest;
+import br.com.jtech.tasklist.adapters.input.dto.TaskNameSuggestionsResponse;
 import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskStatisticsResponse;
 import br.com.jtech.tasklist.adapters.input.dto.UpdateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.files.TaskFileFormat;
 import br.com.jtech.tasklist.adapters.input.mapper.TaskInputMapper;
 import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import br.com.jtech.tasklist.application.dto.pagination.TotalsMode;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.config.infra.exceptions.PreconditionRequiredException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Controller para operações CRUD de Task.
@@ -36,6 +59,16 @@ public class TaskController {
     
     private final TaskFacade taskFacade;
     private final TaskInputMapper taskInputMapper;
+    private final ObjectMapper objectMapper;
+
+    // Envia ao cliente o que já foi escrito a cada EXPORT_FLUSH_INTERVAL linhas
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    // O cliente pode guardar a resposta, mas precisa revalidá-la (If-None-Match) antes de cada uso
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
     
     /**
      * Cria uma nova tarefa.
@@ -52,57 +85,306 @@ public class TaskController {
     }
     
     /**
-     * Atualiza uma tarefa existente.
+     * Atualiza uma tarefa existente, desde que ela ainda esteja na versão informada no {@code If-Match}
+     * (o ETag de {@code GET /{id}} ou o campo {@code version} da tarefa entre aspas).
      *
      * @param id ID da tarefa a ser atualizada
+     * @param ifMatch ETag da versão lida pelo cliente, ou {@code *} para qualquer versão
      * @param request dados da tarefa a ser atualizada
-     * @return resposta com os dados da tarefa atualizada
+     * @return resposta com os dados e o ETag da tarefa atualizada; 412 se a tarefa mudou, 428 sem {@code If-Match}
      */
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> update(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskRequest request) {
-        var command = taskInputMapper.toUpdateCommand(request, id);
+        var command = taskInputMapper.toUpdateCommand(request, id, expectedVersion(ifMatch));
         var output = taskFacade.updateTask(command);
         var response = taskInputMapper.toResponse(output);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag("\"" + output.getVersion() + "\"").body(response);
+    }
+
+    /**
+     * Altera apenas os campos enviados (JSON Merge Patch), nas mesmas condições de {@code If-Match}
+     * da atualização completa. O nome só é conferido quando muda.
+     *
+     * @param id ID da tarefa a ser alterada
+     * @param ifMatch ETag da versão lida pelo cliente, ou {@code *} para qualquer versão
+     * @param request campos a serem alterados; os ausentes mantêm o valor atual
+     * @return resposta com os dados e o ETag da tarefa alterada; 412 se a tarefa mudou, 428 sem {@code If-Match}
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patch(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PatchTaskRequest request) {
+        var command = taskInputMapper.toPatchCommand(request, id, expectedVersion(ifMatch));
+        var output = taskFacade.patchTask(command);
+        var response = taskInputMapper.toResponse(output);
+        return ResponseEntity.ok().eTag("\"" + output.getVersion() + "\"").body(response);
     }
     
     /**
      * Consulta uma tarefa pelo ID.
      *
+     * Com {@code If-None-Match} ou {@code If-Modified-Since}, responde 304 sem carregar a tarefa quando a
+     * versão atual corresponde à do cliente. O ETag da resposta completa é a versão da tarefa devolvida.
+     *
      * @param id ID da tarefa a ser consultada
-     * @return resposta com os dados da tarefa
+     * @param request requisição, para a validação condicional
+     * @return resposta com os dados e o ETag da tarefa, ou 304 sem corpo
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> findById(@PathVariable String id) {
+    public ResponseEntity<TaskResponse> findById(@PathVariable String id, ServletWebRequest request) {
+        if (isConditional(request)) {
+            var version = taskFacade.findTaskVersion(id);
+            var etag = "\"" + version.tag() + "\"";
+            var lastModified = version.lastModified().toInstant();
+            // Validada sem a resposta, para que o ETag dessa leitura não acompanhe um corpo de outra versão
+            if (new ServletWebRequest(request.getRequest()).checkNotModified(etag, lastModified.toEpochMilli())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .cacheControl(REVALIDATE)
+                        .eTag(etag)
+                        .lastModified(lastModified)
+                        .build();
+            }
+        }
         var output = taskFacade.findTaskById(id);
         var response = taskInputMapper.toResponse(output);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag("\"" + output.getVersion() + "\"").body(response);
     }
 
     /**
-     * Lista todas as tarefas com paginação.
+     * Lista as tarefas com paginação, opcionalmente filtradas por status e período de criação.
+     * Sem ordenação informada, as tarefas vêm em ordem de criação.
      *
+     * @param filter {@code status}, {@code createdFrom} (inclusivo) e {@code createdTo} (exclusivo), todos opcionais
      * @param pageable parâmetros de paginação (page, size, sort)
-     * @return página contendo as tarefas encontradas
+     * @param request requisição, para a validação condicional
+     * @return página contendo as tarefas encontradas, ou 304 sem corpo
      */
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> findAll(Pageable pageable) {
-        var output = taskFacade.findAllTasks(pageable);
-        var response = output.map(taskInputMapper::toResponse);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PageResponse<TaskResponse>> findAll(TaskFilterRequest filter, Pageable pageable,
+                                                              ServletWebRequest request) {
+        var taskFilter = taskInputMapper.toFilter(filter);
+        if (notModified(request, taskFacade.findTasksVersion())) {
+            return null;
+        }
+        var output = taskFacade.findAllTasks(taskFilter, pageable);
+        var content = output.getContent().stream().map(taskInputMapper::toResponse).toList();
+        return ResponseEntity.ok(new PageResponse<>(
+                content, output.getNumber(), output.getSize(), output.getTotalElements(), output.getTotalPages()));
     }
     
     /**
-     * Deleta uma tarefa.
+     * Lista as tarefas em fatias, sem a contagem total exigida por {@link Page}.
+     * Com {@code totals=estimate} inclui um total aproximado obtido das estatísticas do banco.
+     *
+     * @param totals modo de cálculo do total ({@code none} ou {@code estimate}; a estimativa é omitida com filtro)
+     * @param filter {@code status}, {@code createdFrom} (inclusivo) e {@code createdTo} (exclusivo), todos opcionais
+     * @param pageable parâmetros de paginação (page, size, sort)
+     * @param request requisição, para a validação condicional
+     * @return fatia contendo as tarefas e a indicação de próxima página, ou 304 sem corpo
+     */
+    @GetMapping(params = {"totals", "!cursor"})
+    public ResponseEntity<SliceResponse<TaskResponse>> findSlice(
+            @RequestParam String totals,
+            TaskFilterRequest filter,
+            Pageable pageable,
+            ServletWebRequest request) {
+        var taskFilter = taskInputMapper.toFilter(filter);
+        var totalsMode = TotalsMode.from(totals);
+        if (notModified(request, taskFacade.findTasksVersion())) {
+            return null;
+        }
+        var output = taskFacade.findTaskSlice(taskFilter, pageable, totalsMode);
+        var slice = output.slice();
+        var content = slice.getContent().stream().map(taskInputMapper::toResponse).toList();
+        return ResponseEntity.ok(new SliceResponse<>(
+                content, slice.getNumber(), slice.getSize(), slice.hasNext(), output.estimatedTotal()));
+    }
+
+    /**
+     * Lista as tarefas com paginação por chave (keyset), ordenadas por data de criação.
+     * O custo de cada página independe da sua profundidade e inserções concorrentes
+     * não deslocam registros entre páginas. Com filtro de status, cada coluna do quadro
+     * pode ser paginada isoladamente.
+     *
+     * @param cursor token {@code next} da página anterior (vazio para a primeira página)
+     * @param size quantidade de tarefas por página
+     * @param filter {@code status}, {@code createdFrom} (inclusivo) e {@code createdTo} (exclusivo), todos opcionais
+     * @param request requisição, para a validação condicional
+     * @return página contendo as tarefas e o cursor da próxima página, ou 304 sem corpo
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            TaskFilterRequest filter,
+            ServletWebRequest request) {
+        var taskFilter = taskInputMapper.toFilter(filter);
+        if (notModified(request, taskFacade.findTasksVersion())) {
+            return null;
+        }
+        var output = taskFacade.findTasksByCursor(taskFilter, cursor, size);
+        var next = output.hasNext() ? output.next().encode() : null;
+        var content = output.content().stream().map(taskInputMapper::toResponse).toList();
+        return ResponseEntity.ok(new CursorPageResponse<>(content, size, next));
+    }
+
+    /**
+     * Busca tarefas pelas palavras do nome e da descrição, ordenadas por relevância.
+     * Todos os termos precisam estar presentes; a paginação é por chave (relevância e ID).
+     *
+     * @param q termos da busca
+     * @param cursor token {@code next} da página anterior (vazio para a primeira página)
+     * @param size quantidade de tarefas por página
+     * @return página contendo as tarefas e o cursor da próxima página
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        var output = taskFacade.searchTasks(q, cursor, size);
+        var next = output.hasNext() ? output.next().encode() : null;
+        var content = output.content().stream().map(taskInputMapper::toResponse).toList();
+        return ResponseEntity.ok(new CursorPageResponse<>(content, size, next));
+    }
+
+    /**
+     * Sugere nomes de tarefas ativas que começam pelo prefixo, para autocompletar e avisar
+     * sobre nomes já usados enquanto o usuário digita. Responde a partir de um índice em
+     * memória, sem consultar o banco.
+     *
+     * @param prefix início do nome digitado (maiúsculas são ignoradas)
+     * @param limit quantidade máxima de sugestões
+     * @return sugestões em ordem alfabética e o ID da tarefa com exatamente esse nome, se houver
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<TaskNameSuggestionsResponse> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        var output = taskFacade.suggestTaskNames(prefix, limit);
+        return ResponseEntity.ok(taskInputMapper.toSuggestionsResponse(output));
+    }
+
+    /**
+     * Verifica, sem corpo na resposta, se algum nome já está em uso por uma tarefa ativa.
+     * A maior parte dos nomes novos é descartada por um filtro em memória, sem consultar o banco.
+     * O filtro só conhece os nomes criados por outras instâncias após a recarga periódica
+     * ({@code tasks.name-index.refresh-interval}); até lá um nome já em uso pode responder 404.
+     *
+     * @param name nome a verificar (maiúsculas são ignoradas)
+     * @return 200 quando o nome está em uso, 404 quando está livre
+     */
+    @RequestMapping(method = RequestMethod.HEAD, params = "name")
+    public ResponseEntity<Void> nameExists(@RequestParam String name) {
+        return taskFacade.taskNameExists(name)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Retorna a quantidade de tarefas ativas por status. Os valores vêm de contadores
+     * mantidos a cada gravação, então o custo não depende da quantidade de tarefas.
+     *
+     * @return total e quantidade de cada status
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatisticsResponse> stats() {
+        var output = taskFacade.findTaskStatistics();
+        return ResponseEntity.ok(taskInputMapper.toStatisticsResponse(output));
+    }
+
+    /**
+     * Exporta todas as tarefas ativas em NDJSON ou CSV.
+     * As linhas são escritas no corpo da resposta conforme chegam do banco, então o uso de
+     * memória não depende da quantidade de tarefas exportadas.
+     *
+     * @param format formato da exportação ({@code ndjson} ou {@code csv})
+     * @return corpo transmitido em streaming com as tarefas
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        var exportFormat = TaskFileFormat.from(format);
+        StreamingResponseBody body = out -> {
+            var buffered = new BufferedOutputStream(out, EXPORT_BUFFER_SIZE);
+            var writer = exportFormat.writer(buffered, objectMapper);
+            long[] written = {0};
+            try {
+                taskFacade.exportTasks(output -> {
+                    try {
+                        writer.write(taskInputMapper.toResponse(output));
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.fileName()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Compara a versão atual com os cabeçalhos {@code If-None-Match} e {@code If-Modified-Since}.
+     * Em ambos os casos a resposta recebe o ETag forte, o {@code Last-Modified} e o {@code Cache-Control};
+     * quando a cópia do cliente ainda vale, o status já fica 304 e o handler deve retornar {@code null}.
+     */
+    private static boolean notModified(ServletWebRequest request, TaskVersion version) {
+        var lastModified = version.lastModified().toInstant();
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        return request.checkNotModified("\"" + version.tag() + "\"", lastModified.toEpochMilli());
+    }
+
+    private static boolean isConditional(ServletWebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Deleta uma tarefa, desde que ela ainda esteja na versão informada no {@code If-Match}.
      *
      * @param id ID da tarefa a ser deletada
-     * @return resposta sem conteúdo
+     * @param ifMatch ETag da versão lida pelo cliente, ou {@code *} para qualquer versão
+     * @return resposta sem conteúdo; 412 se a tarefa mudou, 428 sem {@code If-Match}
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id) {
-        taskFacade.deleteTask(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskFacade.deleteTask(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Versão esperada a partir do {@code If-Match}. Aceita um único ETag forte, ou {@code *} (nulo:
+     * qualquer versão); um ETag fraco ou que não é de uma tarefa nunca corresponde à versão atual.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("error.task.version.required");
+        }
+        String tag = ifMatch.strip();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Cai na falha de pré-condição abaixo
+            }
+        }
+        throw new DomainResourceVersionConflict("error.task.version.conflict");
+    }
 }
\ No newline at end of file
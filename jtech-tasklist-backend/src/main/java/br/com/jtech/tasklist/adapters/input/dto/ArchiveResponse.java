@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+public record ArchiveResponse(
+    long archived,
+    int chunks,
+    boolean completed,
+    long elapsedMillis
+) {}
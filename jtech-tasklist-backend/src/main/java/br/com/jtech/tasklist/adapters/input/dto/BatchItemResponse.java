@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.dto.batch.BatchItemStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse<T>(
+    int index,
+    BatchItemStatus status,
+    T task,
+    String error
+) {}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import java.util.List;
+
+public record BatchResponse<T>(
+    int created,
+    int rejected,
+    List<BatchItemResponse<T>> items
+) {}
@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskOperation;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BulkTaskRequest(
+    List<String> ids,
+    Filter filter,
+    @NotNull(message = "error.task.bulk.operation.mandatory")
+    BulkTaskOperation operation,
+    TaskStatus targetStatus
+) {
+    public record Filter(TaskStatus status) {}
+}
@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.dto.task.BulkTaskOperation;
+
+public record BulkTaskResponse(
+    BulkTaskOperation operation,
+    int affected
+) {}
@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateTaskBatchRequest(
+    @NotEmpty(message = "error.task.batch.empty")
+    @Size(max = 1000, message = "error.task.batch.too_large")
+    List<@Valid CreateTaskRequest> tasks
+) {}
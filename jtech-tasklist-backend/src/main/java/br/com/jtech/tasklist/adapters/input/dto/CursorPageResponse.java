@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    String next
+) {}
@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+public record ImportResponse(
+    long read,
+    long imported,
+    long rejected,
+    long duplicatedInInput,
+    long alreadyExisting,
+    long elapsedMillis,
+    double rowsPerSecond
+) {}
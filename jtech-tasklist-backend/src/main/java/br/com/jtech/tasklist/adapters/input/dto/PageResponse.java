@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import java.util.List;
+
+/**
+ * Página com contagem total, no mesmo formato enxuto de {@link SliceResponse}: apenas o conteúdo e os
+ * números da página, sem os objetos {@code pageable} e {@code sort} que a serialização de {@code PageImpl}
+ * repete e cujo formato não é estável entre versões do Spring Data.
+ */
+public record PageResponse<T>(
+    List<T> content,
+    int page,
+    int size,
+    long totalElements,
+    int totalPages
+) {}
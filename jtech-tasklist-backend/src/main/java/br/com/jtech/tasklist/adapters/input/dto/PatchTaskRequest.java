@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Corpo de um JSON Merge Patch: os campos ausentes (ou nulos) mantêm o valor atual.
+ */
+public record PatchTaskRequest(
+    @Size(max = 50, message = "error.task.name.too_long")
+    String name,
+
+    @Size(max = 500, message = "error.task.description.too_long")
+    String description,
+
+    TaskStatus status
+) {}
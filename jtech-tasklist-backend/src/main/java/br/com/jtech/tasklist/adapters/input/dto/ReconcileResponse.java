@@ -0,0 +1,5 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+public record ReconcileResponse(
+    long corrected
+) {}
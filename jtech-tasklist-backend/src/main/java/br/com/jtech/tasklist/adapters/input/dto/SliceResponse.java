@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record SliceResponse<T>(
+    List<T> content,
+    int page,
+    int size,
+    boolean hasNext,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long estimatedTotal
+) {}
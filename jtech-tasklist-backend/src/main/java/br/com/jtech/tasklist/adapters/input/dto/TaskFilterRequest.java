@@ -0,0 +1,14 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.OffsetDateTime;
+
+public record TaskFilterRequest(
+    TaskStatus status,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    OffsetDateTime createdFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    OffsetDateTime createdTo
+) {}
@@ -0,0 +1,6 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+public record TaskNameSuggestionResponse(
+    String id,
+    String name
+) {}
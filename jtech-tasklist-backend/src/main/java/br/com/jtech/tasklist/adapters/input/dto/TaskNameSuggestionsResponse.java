@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import java.util.List;
+
+public record TaskNameSuggestionsResponse(
+    List<TaskNameSuggestionResponse> suggestions,
+    String exactMatchId
+) {}
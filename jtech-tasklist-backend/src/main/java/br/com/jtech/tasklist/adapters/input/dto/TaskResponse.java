@@ -1,13 +1,17 @@
 package br.com.jtech.tasklist.adapters.input.dto;
 
+import br.com.jtech.tasklist.adapters.input.json.TaskResponseSerializer;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.time.OffsetDateTime;
 
+@JsonSerialize(using = TaskResponseSerializer.class)
 public record TaskResponse(
     String id,
     String name,
     String description,
     TaskStatus status,
-    OffsetDateTime createdAt
+    OffsetDateTime createdAt,
+    Long version
 ) {}
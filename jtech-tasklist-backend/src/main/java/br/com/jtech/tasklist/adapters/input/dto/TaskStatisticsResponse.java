@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.adapters.input.dto;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.util.Map;
+
+public record TaskStatisticsResponse(
+    long total,
+    Map<TaskStatus, Long> byStatus
+) {}
@@ -1,18 +1,51 @@
 package br.com.jtech.tasklist.adapters.input.facades;
 
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemResult;
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.SliceResult;
+import br.com.jtech.tasklist.application.dto.pagination.TotalsMode;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskResult;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestions;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.ports.input.common.ArchiveEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.BulkOperationUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.CreateEntitiesInBatchUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.CreateEntityUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.DeleteEntityUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ExistsEntityByNameUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ExportEntitiesUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.FindAllEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesVersionUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesByCursorUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.FindEntityByIdUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityStatisticsUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityVersionUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ImportEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.PatchEntityUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ReconcileEntityStatisticsUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.SearchEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.SuggestEntityNamesUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.UpdateEntityUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Facade que centraliza e simplifica o acesso aos casos de uso de Task.
  * Fornece uma interface unificada para operações CRUD de tarefas.
@@ -22,10 +55,25 @@ import org.springframework.stereotype.Service;
 public class TaskFacade {
 
     private final CreateEntityUseCase<CreateTaskCommand, TaskOutput> createTaskUseCase;
+    private final CreateEntitiesInBatchUseCase<CreateTaskCommand, TaskOutput> createTasksInBatchUseCase;
     private final UpdateEntityUseCase<UpdateTaskCommand, TaskOutput> updateTaskUseCase;
+    private final PatchEntityUseCase<PatchTaskCommand, TaskOutput> patchTaskUseCase;
     private final FindEntityByIdUseCase<TaskOutput> findTaskByIdUseCase;
-    private final FindAllEntitiesUseCase<TaskOutput> findAllTasksUseCase;
+    private final FindEntityVersionUseCase<TaskVersion> findTaskVersionUseCase;
+    private final FindAllEntitiesUseCase<TaskOutput, TaskFilter> findAllTasksUseCase;
+    private final FindEntitiesVersionUseCase<TaskVersion> findTasksVersionUseCase;
+    private final FindEntitiesByCursorUseCase<TaskOutput, TaskFilter> findTasksByCursorUseCase;
+    private final SearchEntitiesUseCase<TaskOutput> searchTasksUseCase;
+    private final SuggestEntityNamesUseCase<TaskNameSuggestions> suggestTaskNamesUseCase;
+    private final ExistsEntityByNameUseCase existsTaskByNameUseCase;
+    private final FindEntityStatisticsUseCase<TaskStatistics> findTaskStatisticsUseCase;
+    private final ReconcileEntityStatisticsUseCase reconcileTaskStatisticsUseCase;
+    private final ExportEntitiesUseCase<TaskOutput> exportTasksUseCase;
+    private final ImportEntitiesUseCase<CreateTaskCommand> importTasksUseCase;
     private final DeleteEntityUseCase deleteTaskUseCase;
+    private final BulkOperationUseCase<BulkTaskCommand, BulkTaskResult> bulkTaskOperationUseCase;
+    private final ArchiveEntitiesUseCase archiveDeletedTasksUseCase;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Cria uma tarefa.
@@ -37,6 +85,16 @@ public class TaskFacade {
         return createTaskUseCase.execute(command);
     }
 
+    /**
+     * Cria várias tarefas em lote, com uma única verificação de nomes e INSERTs agrupados.
+     *
+     * @param commands comandos com os dados das tarefas a serem criadas
+     * @return resultado de cada item, na mesma ordem dos comandos recebidos
+     */
+    public List<BatchItemResult<TaskOutput>> createTasksInBatch(List<CreateTaskCommand> commands) {
+        return createTasksInBatchUseCase.execute(commands);
+    }
+
     /**
      * Atualiza uma tarefa existente.
      *
@@ -47,6 +105,16 @@ public class TaskFacade {
         return updateTaskUseCase.execute(command);
     }
 
+    /**
+     * Altera apenas os campos informados de uma tarefa existente.
+     *
+     * @param command comando com os campos a serem alterados
+     * @return TaskOutput com os dados da tarefa alterada
+     */
+    public TaskOutput patchTask(PatchTaskCommand command) {
+        return patchTaskUseCase.execute(command);
+    }
+
     /**
      * Busca uma tarefa por ID.
      *
@@ -58,13 +126,143 @@ public class TaskFacade {
     }
 
     /**
-     * Busca todas as tarefas com paginação.
+     * Versão de uma tarefa, lida sem carregar os demais campos, para validar a cópia que o cliente já tem.
+     *
+     * @param taskId ID da tarefa
+     * @return TaskVersion com a versão da tarefa e o instante da última alteração
+     */
+    public TaskVersion findTaskVersion(String taskId) {
+        return findTaskVersionUseCase.execute(taskId);
+    }
+
+    /**
+     * Versão da listagem de tarefas: muda a cada gravação, qualquer que seja o filtro ou a página.
+     *
+     * @return TaskVersion com a revisão da listagem e o instante em que ela mudou
+     */
+    public TaskVersion findTasksVersion() {
+        return findTasksVersionUseCase.execute();
+    }
+
+    /**
+     * Busca as tarefas que atendem ao filtro, com paginação.
      *
+     * @param filter status e período de criação (campos nulos não restringem)
      * @param pageable parâmetros de paginação
      * @return Page contendo as tarefas encontradas
      */
-    public Page<TaskOutput> findAllTasks(Pageable pageable) {
-        return findAllTasksUseCase.execute(pageable);
+    public Page<TaskOutput> findAllTasks(TaskFilter filter, Pageable pageable) {
+        return findAllTasksUseCase.execute(filter, pageable);
+    }
+
+    /**
+     * Busca uma fatia de tarefas sem executar COUNT sobre a tabela.
+     *
+     * @param filter status e período de criação (campos nulos não restringem)
+     * @param pageable parâmetros de paginação
+     * @param totals modo de cálculo do total (nenhum ou estimado; a estimativa só vale sem filtro)
+     * @return SliceResult contendo as tarefas e, opcionalmente, o total estimado
+     */
+    public SliceResult<TaskOutput> findTaskSlice(TaskFilter filter, Pageable pageable, TotalsMode totals) {
+        return findAllTasksUseCase.execute(filter, pageable, totals);
+    }
+
+    /**
+     * Busca tarefas com paginação por chave (keyset), sem OFFSET nem COUNT.
+     *
+     * @param filter status e período de criação (campos nulos não restringem)
+     * @param cursor token opaco da página anterior (nulo ou vazio para a primeira página)
+     * @param size quantidade de tarefas por página
+     * @return CursorPage contendo as tarefas e o cursor da próxima página
+     */
+    public CursorPage<TaskOutput> findTasksByCursor(TaskFilter filter, String cursor, int size) {
+        return findTasksByCursorUseCase.execute(filter, cursor, size);
+    }
+
+    /**
+     * Busca tarefas pelos termos do nome e da descrição, das mais para as menos relevantes.
+     *
+     * @param query termos da busca
+     * @param cursor token opaco da página anterior (nulo ou vazio para a primeira página)
+     * @param size quantidade de tarefas por página
+     * @return CursorPage contendo as tarefas e o cursor da próxima página
+     */
+    public CursorPage<TaskOutput> searchTasks(String query, String cursor, int size) {
+        return searchTasksUseCase.execute(query, cursor, size);
+    }
+
+    /**
+     * Sugere nomes de tarefas ativas que começam pelo prefixo, consultando apenas o índice em memória.
+     * Registra a latência, com o percentil 99, na métrica {@code tasks.suggest.duration}.
+     *
+     * @param prefix início do nome digitado
+     * @param limit quantidade máxima de sugestões
+     * @return TaskNameSuggestions com os nomes encontrados e o ID da tarefa que já usa o nome, se houver
+     */
+    public TaskNameSuggestions suggestTaskNames(String prefix, int limit) {
+        return Timer.builder("tasks.suggest.duration")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(() -> suggestTaskNamesUseCase.execute(prefix, limit));
+    }
+
+    /**
+     * Verifica se alguma tarefa ativa usa o nome, ignorando maiúsculas. O banco só é consultado
+     * quando o filtro de nomes em memória não descarta o nome.
+     *
+     * @param name nome a verificar
+     * @return true quando existe tarefa ativa com o nome
+     */
+    public boolean taskNameExists(String name) {
+        return existsTaskByNameUseCase.execute(name);
+    }
+
+    /**
+     * Quantidade de tarefas ativas por status, servida dos contadores em memória sem consultar o banco.
+     *
+     * @return TaskStatistics com a quantidade de cada status
+     */
+    public TaskStatistics findTaskStatistics() {
+        return findTaskStatisticsUseCase.execute();
+    }
+
+    /**
+     * Recalcula os contadores de tarefas por status a partir da tabela de tarefas.
+     * Registra as divergências corrigidas na métrica {@code tasks.stats.drift}.
+     *
+     * @return soma das divergências corrigidas
+     */
+    public long reconcileTaskStatistics() {
+        long drift = reconcileTaskStatisticsUseCase.execute();
+        meterRegistry.counter("tasks.stats.drift").increment(drift);
+        return drift;
+    }
+
+    /**
+     * Percorre todas as tarefas ativas, entregando cada uma ao consumidor à medida que é lida do banco.
+     *
+     * @param sink consumidor que recebe cada tarefa
+     * @return quantidade de tarefas exportadas
+     */
+    public long exportTasks(Consumer<TaskOutput> sink) {
+        return exportTasksUseCase.execute(sink);
+    }
+
+    /**
+     * Importa tarefas em massa, gravando a primeira ocorrência de cada nome ainda não usado
+     * por uma tarefa ativa. Registra as quantidades e a duração nas métricas {@code tasks.import.*}.
+     *
+     * @param commands comandos lidos sob demanda do arquivo de origem
+     * @return resumo da importação
+     */
+    public ImportResult importTasks(Iterator<CreateTaskCommand> commands) {
+        ImportResult result = importTasksUseCase.execute(commands);
+        meterRegistry.counter("tasks.import.rows", "outcome", "imported").increment(result.imported());
+        meterRegistry.counter("tasks.import.rows", "outcome", "rejected").increment(result.rejected());
+        meterRegistry.counter("tasks.import.rows", "outcome", "duplicated_in_input").increment(result.duplicatedInInput());
+        meterRegistry.counter("tasks.import.rows", "outcome", "already_existing").increment(result.alreadyExisting());
+        meterRegistry.timer("tasks.import.duration").record(result.elapsed());
+        return result;
     }
 
     /**
@@ -75,4 +273,38 @@ public class TaskFacade {
     public void deleteTask(String taskId) {
         deleteTaskUseCase.execute(taskId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Deleta (soft delete) uma tarefa por ID, desde que ela ainda esteja na versão informada.
+     *
+     * @param taskId ID da tarefa a ser deletada
+     * @param expectedVersion versão lida pelo cliente (nula para remover qualquer que seja a versão)
+     */
+    public void deleteTask(String taskId, Long expectedVersion) {
+        deleteTaskUseCase.execute(taskId, expectedVersion);
+    }
+
+    /**
+     * Aplica uma alteração de status ou um soft delete a várias tarefas em um único comando.
+     *
+     * @param command seleção (IDs ou filtro) e operação a ser aplicada
+     * @return BulkTaskResult com a quantidade de tarefas alteradas
+     */
+    public BulkTaskResult applyBulkOperation(BulkTaskCommand command) {
+        return bulkTaskOperationUseCase.execute(command);
+    }
+
+    /**
+     * Move para o arquivo as tarefas removidas há mais tempo que a retenção configurada.
+     * Registra as quantidades e a duração nas métricas {@code tasks.archive.*}.
+     *
+     * @return ArchiveResult com a quantidade de tarefas arquivadas e de lotes executados
+     */
+    public ArchiveResult archiveDeletedTasks() {
+        ArchiveResult result = archiveDeletedTasksUseCase.execute();
+        meterRegistry.counter("tasks.archive.rows").increment(result.archived());
+        meterRegistry.counter("tasks.archive.chunks").increment(result.chunks());
+        meterRegistry.timer("tasks.archive.duration").record(result.elapsed());
+        return result;
+    }
+}
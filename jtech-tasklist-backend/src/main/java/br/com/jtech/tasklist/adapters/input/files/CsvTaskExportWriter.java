@@ -0,0 +1,63 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV conforme a RFC 4180: campos com vírgula, aspas ou quebra de linha são
+ * delimitados por aspas, e aspas internas são duplicadas.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+
+    static final String HEADER = "id,name,description,status,createdAt";
+
+    private final Writer out;
+    private boolean headerWritten;
+
+    CsvTaskExportWriter(OutputStream out) {
+        this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        if (!headerWritten) {
+            out.write(HEADER);
+            out.write("\r\n");
+            headerWritten = true;
+        }
+        out.write(task.id());
+        out.write(',');
+        out.write(escape(task.name()));
+        out.write(',');
+        out.write(escape(task.description()));
+        out.write(',');
+        out.write(task.status() != null ? task.status().name() : "");
+        out.write(',');
+        out.write(task.createdAt() != null ? task.createdAt().toString() : "");
+        out.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!headerWritten) {
+            out.write(HEADER);
+            out.write("\r\n");
+            headerWritten = true;
+        }
+        out.flush();
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * CSV conforme a RFC 4180, com cabeçalho obrigatório. As colunas são localizadas pelo nome
+ * ({@code name}, {@code description}, {@code status}); as demais são ignoradas, o que permite
+ * reimportar um arquivo gerado pela exportação.
+ */
+class CsvTaskFileReader implements Iterator<CreateTaskRequest> {
+
+    private final BufferedReader in;
+    private final int nameColumn;
+    private final int descriptionColumn;
+    private final int statusColumn;
+    private List<String> nextRecord;
+
+    CsvTaskFileReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new DomainInvalidArgumentException("error.task.import.malformed");
+        }
+        List<String> columns = header.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        this.nameColumn = columns.indexOf("name");
+        this.descriptionColumn = columns.indexOf("description");
+        this.statusColumn = columns.indexOf("status");
+        if (nameColumn < 0) {
+            throw new DomainInvalidArgumentException("error.task.import.malformed");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextRecord == null) {
+            List<String> record = readRecord();
+            if (record == null) {
+                return false;
+            }
+            if (!(record.size() == 1 && record.get(0).isEmpty())) {
+                nextRecord = record;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CreateTaskRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = nextRecord;
+        nextRecord = null;
+        return new CreateTaskRequest(
+                column(record, nameColumn),
+                column(record, descriptionColumn),
+                status(column(record, statusColumn)));
+    }
+
+    private static String column(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    private static TaskStatus status(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainInvalidArgumentException("error.task.import.malformed");
+        }
+    }
+
+    /**
+     * Lê um registro completo, que pode ocupar várias linhas quando um campo entre aspas
+     * contém quebras de linha.
+     *
+     * @return campos do registro, ou {@code null} no fim do arquivo
+     */
+    private List<String> readRecord() {
+        try {
+            int c = in.read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c >= 0) {
+                if (quoted) {
+                    if (c == '"') {
+                        in.mark(1);
+                        int following = in.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (following >= 0) {
+                                in.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+            if (quoted) {
+                throw new DomainInvalidArgumentException("error.task.import.malformed");
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
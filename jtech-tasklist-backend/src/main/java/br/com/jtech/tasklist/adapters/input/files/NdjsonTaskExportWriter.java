@@ -0,0 +1,33 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Uma tarefa por linha, cada linha um documento JSON completo (NDJSON).
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final OutputStream out;
+    private final ObjectWriter writer;
+
+    NdjsonTaskExportWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.writer = objectMapper.writerFor(TaskResponse.class);
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        out.write(writer.writeValueAsBytes(task));
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Um documento JSON por linha; linhas em branco são ignoradas. Campos desconhecidos
+ * (como {@code id} e {@code createdAt} de um arquivo exportado) não impedem a leitura.
+ */
+class NdjsonTaskFileReader implements Iterator<CreateTaskRequest> {
+
+    private final BufferedReader in;
+    private final ObjectReader reader;
+    private String nextLine;
+
+    NdjsonTaskFileReader(InputStream in, ObjectMapper objectMapper) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.reader = objectMapper.readerFor(CreateTaskRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = in.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CreateTaskRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+        try {
+            return reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new DomainInvalidArgumentException("error.task.import.malformed");
+        }
+    }
+}
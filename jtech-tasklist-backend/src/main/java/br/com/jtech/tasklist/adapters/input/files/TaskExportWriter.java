@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+
+import java.io.IOException;
+
+/**
+ * Escreve tarefas uma a uma no corpo da resposta, sem acumulá-las em memória.
+ */
+public interface TaskExportWriter {
+
+    void write(TaskResponse task) throws IOException;
+
+    void flush() throws IOException;
+}
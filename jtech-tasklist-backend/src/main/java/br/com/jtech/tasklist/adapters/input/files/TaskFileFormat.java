@@ -0,0 +1,66 @@
+package br.com.jtech.tasklist.adapters.input.files;
+
+import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Formatos de arquivo suportados pela exportação e pela importação de tarefas.
+ */
+public enum TaskFileFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TaskFileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "tasks." + extension;
+    }
+
+    public TaskExportWriter writer(OutputStream out, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskExportWriter(out, objectMapper);
+            case CSV -> new CsvTaskExportWriter(out);
+        };
+    }
+
+    /**
+     * Lê as tarefas sob demanda: cada chamada a {@link Iterator#next()} consome apenas
+     * o próximo registro do arquivo.
+     */
+    public Iterator<CreateTaskRequest> reader(InputStream in, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskFileReader(in, objectMapper);
+            case CSV -> new CsvTaskFileReader(in);
+        };
+    }
+
+    public static TaskFileFormat from(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new DomainInvalidArgumentException("error.file.format.invalid");
+    }
+
+    public static TaskFileFormat fromFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return from(dot >= 0 ? fileName.substring(dot + 1) : fileName);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.adapters.input.json;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Escreve cada {@link TaskResponse} campo a campo, com os nomes já codificados, em vez de passar
+ * pela introspecção e pelos acessores refletidos do serializador de beans. É o trecho que se repete
+ * para cada linha das listagens e da exportação.
+ * <p>
+ * A data continua com o serializador configurado no {@code ObjectMapper} (resolvido uma vez), então o
+ * formato é o mesmo das demais respostas. A ordem e os nomes dos campos são os do record.
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> implements ResolvableSerializer {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    private JsonSerializer<Object> dateSerializer;
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        dateSerializer = provider.findValueSerializer(OffsetDateTime.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(task);
+        gen.writeFieldName(ID);
+        gen.writeString(task.id());
+        gen.writeFieldName(NAME);
+        gen.writeString(task.name());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(task.description());
+        gen.writeFieldName(STATUS);
+        if (task.status() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(task.status().name());
+        }
+        gen.writeFieldName(CREATED_AT);
+        if (task.createdAt() == null) {
+            gen.writeNull();
+        } else {
+            dateSerializer.serialize(task.createdAt(), gen, provider);
+        }
+        gen.writeFieldName(VERSION);
+        if (task.version() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(task.version());
+        }
+        gen.writeEndObject();
+    }
+}
@@ -1,22 +1,89 @@
 package br.com.jtech.tasklist.adapters.input.mapper;
 
+import br.com.jtech.tasklist.adapters.input.dto.ArchiveResponse;
+import br.com.jtech.tasklist.adapters.input.dto.BulkTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.BulkTaskResponse;
 import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.ImportResponse;
+import br.com.jtech.tasklist.adapters.input.dto.PatchTaskRequest;
+import br.com.jtech.tasklist.adapters.input.dto.TaskFilterRequest;
+import br.com.jtech.tasklist.adapters.input.dto.TaskNameSuggestionResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskNameSuggestionsResponse;
 import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskStatisticsResponse;
 import br.com.jtech.tasklist.adapters.input.dto.UpdateTaskRequest;
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskResult;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestions;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
 import org.mapstruct.Mapper;
 
+import java.util.Iterator;
+
 @Mapper(componentModel = "spring")
 public interface TaskInputMapper {
     
     CreateTaskCommand toCreateCommand(CreateTaskRequest request);
+
+    default Iterator<CreateTaskCommand> toCreateCommands(Iterator<CreateTaskRequest> requests) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return requests.hasNext();
+            }
+
+            @Override
+            public CreateTaskCommand next() {
+                return toCreateCommand(requests.next());
+            }
+        };
+    }
     
-    default UpdateTaskCommand toUpdateCommand(UpdateTaskRequest request, String id) {
-        return new UpdateTaskCommand(id, request.name(), request.description(), request.status());
+    default UpdateTaskCommand toUpdateCommand(UpdateTaskRequest request, String id, Long expectedVersion) {
+        return new UpdateTaskCommand(id, request.name(), request.description(), request.status(), expectedVersion);
+    }
+
+    default PatchTaskCommand toPatchCommand(PatchTaskRequest request, String id, Long expectedVersion) {
+        return new PatchTaskCommand(id, request.name(), request.description(), request.status(), expectedVersion);
     }
     
     TaskResponse toResponse(TaskOutput output);
-}
 
+    default TaskFilter toFilter(TaskFilterRequest request) {
+        return new TaskFilter(request.status(), request.createdFrom(), request.createdTo());
+    }
+
+    default BulkTaskCommand toBulkCommand(BulkTaskRequest request) {
+        var filter = request.filter() != null ? new TaskFilter(request.filter().status()) : null;
+        return new BulkTaskCommand(request.ids(), filter, request.operation(), request.targetStatus());
+    }
+
+    BulkTaskResponse toBulkResponse(BulkTaskResult result);
+
+    default ImportResponse toImportResponse(ImportResult result) {
+        return new ImportResponse(result.read(), result.imported(), result.rejected(), result.duplicatedInInput(),
+                result.alreadyExisting(), result.elapsed().toMillis(), result.rowsPerSecond());
+    }
+
+    default TaskNameSuggestionsResponse toSuggestionsResponse(TaskNameSuggestions suggestions) {
+        var items = suggestions.suggestions().stream()
+                .map(suggestion -> new TaskNameSuggestionResponse(suggestion.id(), suggestion.name()))
+                .toList();
+        return new TaskNameSuggestionsResponse(items, suggestions.exactMatchId());
+    }
+
+    default TaskStatisticsResponse toStatisticsResponse(TaskStatistics statistics) {
+        return new TaskStatisticsResponse(statistics.total(), statistics.byStatus());
+    }
+
+    default ArchiveResponse toArchiveResponse(ArchiveResult result) {
+        return new ArchiveResponse(result.archived(), result.chunks(), result.completed(), result.elapsed().toMillis());
+    }
+}
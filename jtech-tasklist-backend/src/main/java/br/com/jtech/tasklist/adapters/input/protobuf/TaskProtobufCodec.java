@@ -0,0 +1,264 @@
+package br.com.jtech.tasklist.adapters.input.protobuf;
+
+import br.com.jtech.tasklist.adapters.input.dto.CursorPageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.SliceResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codificação Protobuf das respostas de tarefas, escrita diretamente sobre o {@link CodedOutputStream}
+ * conforme {@code proto/tasks.proto}, sem classes geradas: as respostas já são records e o formato é pequeno.
+ * <p>
+ * Segue as regras do proto3: campos com o valor padrão não são escritos e campos desconhecidos são
+ * ignorados na leitura. A leitura existe para consumidores Java e para os testes; os demais clientes
+ * geram o código a partir do {@code .proto}.
+ */
+public final class TaskProtobufCodec {
+
+    private static final int TASK_ID = 1;
+    private static final int TASK_NAME = 2;
+    private static final int TASK_DESCRIPTION = 3;
+    private static final int TASK_STATUS = 4;
+    private static final int TASK_CREATED_AT = 5;
+    private static final int TASK_VERSION = 6;
+
+    private static final int TIMESTAMP_SECONDS = 1;
+    private static final int TIMESTAMP_NANOS = 2;
+
+    // Campo 1 de todos os envelopes; os números dos demais campos variam por envelope
+    private static final int CONTENT = 1;
+    private static final int PAGE_PAGE = 2;
+    private static final int PAGE_SIZE = 3;
+    private static final int PAGE_TOTAL_ELEMENTS = 4;
+    private static final int PAGE_TOTAL_PAGES = 5;
+    private static final int SLICE_PAGE = 2;
+    private static final int SLICE_SIZE = 3;
+    private static final int SLICE_HAS_NEXT = 4;
+    private static final int SLICE_ESTIMATED_TOTAL = 5;
+    private static final int CURSOR_SIZE = 2;
+    private static final int CURSOR_NEXT = 3;
+
+    private TaskProtobufCodec() {
+    }
+
+    public static void writeTask(TaskResponse task, CodedOutputStream out) throws IOException {
+        if (isPresent(task.id())) {
+            out.writeString(TASK_ID, task.id());
+        }
+        if (isPresent(task.name())) {
+            out.writeString(TASK_NAME, task.name());
+        }
+        if (isPresent(task.description())) {
+            out.writeString(TASK_DESCRIPTION, task.description());
+        }
+        if (task.status() != null) {
+            out.writeEnum(TASK_STATUS, statusNumber(task.status()));
+        }
+        if (task.createdAt() != null) {
+            Instant createdAt = task.createdAt().toInstant();
+            out.writeTag(TASK_CREATED_AT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(timestampSize(createdAt));
+            writeTimestamp(createdAt, out);
+        }
+        if (task.version() != null) {
+            out.writeInt64(TASK_VERSION, task.version());
+        }
+    }
+
+    public static void writePage(PageResponse<?> page, CodedOutputStream out) throws IOException {
+        writeContent(page.content(), out);
+        if (page.page() != 0) {
+            out.writeInt32(PAGE_PAGE, page.page());
+        }
+        if (page.size() != 0) {
+            out.writeInt32(PAGE_SIZE, page.size());
+        }
+        if (page.totalElements() != 0) {
+            out.writeInt64(PAGE_TOTAL_ELEMENTS, page.totalElements());
+        }
+        if (page.totalPages() != 0) {
+            out.writeInt32(PAGE_TOTAL_PAGES, page.totalPages());
+        }
+    }
+
+    public static void writeSlice(SliceResponse<?> slice, CodedOutputStream out) throws IOException {
+        writeContent(slice.content(), out);
+        if (slice.page() != 0) {
+            out.writeInt32(SLICE_PAGE, slice.page());
+        }
+        if (slice.size() != 0) {
+            out.writeInt32(SLICE_SIZE, slice.size());
+        }
+        if (slice.hasNext()) {
+            out.writeBool(SLICE_HAS_NEXT, true);
+        }
+        if (slice.estimatedTotal() != null) {
+            out.writeInt64(SLICE_ESTIMATED_TOTAL, slice.estimatedTotal());
+        }
+    }
+
+    public static void writeCursorPage(CursorPageResponse<?> page, CodedOutputStream out) throws IOException {
+        writeContent(page.content(), out);
+        if (page.size() != 0) {
+            out.writeInt32(CURSOR_SIZE, page.size());
+        }
+        if (page.next() != null) {
+            out.writeString(CURSOR_NEXT, page.next());
+        }
+    }
+
+    public static TaskResponse readTask(CodedInputStream in) throws IOException {
+        String id = "";
+        String name = "";
+        String description = "";
+        TaskStatus status = null;
+        OffsetDateTime createdAt = null;
+        Long version = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TASK_ID -> id = in.readStringRequireUtf8();
+                case TASK_NAME -> name = in.readStringRequireUtf8();
+                case TASK_DESCRIPTION -> description = in.readStringRequireUtf8();
+                case TASK_STATUS -> status = statusOf(in.readEnum());
+                case TASK_CREATED_AT -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    createdAt = readTimestamp(in);
+                    in.popLimit(limit);
+                }
+                case TASK_VERSION -> version = in.readInt64();
+                default -> in.skipField(tag);
+            }
+        }
+        return new TaskResponse(id, name, description, status, createdAt, version);
+    }
+
+    public static PageResponse<TaskResponse> readPage(CodedInputStream in) throws IOException {
+        List<TaskResponse> content = new ArrayList<>();
+        int page = 0;
+        int size = 0;
+        long totalElements = 0;
+        int totalPages = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONTENT -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    content.add(readTask(in));
+                    in.popLimit(limit);
+                }
+                case PAGE_PAGE -> page = in.readInt32();
+                case PAGE_SIZE -> size = in.readInt32();
+                case PAGE_TOTAL_ELEMENTS -> totalElements = in.readInt64();
+                case PAGE_TOTAL_PAGES -> totalPages = in.readInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        return new PageResponse<>(content, page, size, totalElements, totalPages);
+    }
+
+    // Os envelopes são genéricos, mas só levam tarefas: outro conteúdo é erro de quem montou a resposta
+    private static void writeContent(List<?> content, CodedOutputStream out) throws IOException {
+        for (Object item : content) {
+            if (!(item instanceof TaskResponse task)) {
+                throw new IllegalArgumentException("Protobuf envelopes only carry TaskResponse, got " + item.getClass());
+            }
+            out.writeTag(CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(taskSize(task));
+            writeTask(task, out);
+        }
+    }
+
+    private static int taskSize(TaskResponse task) {
+        int size = 0;
+        if (isPresent(task.id())) {
+            size += CodedOutputStream.computeStringSize(TASK_ID, task.id());
+        }
+        if (isPresent(task.name())) {
+            size += CodedOutputStream.computeStringSize(TASK_NAME, task.name());
+        }
+        if (isPresent(task.description())) {
+            size += CodedOutputStream.computeStringSize(TASK_DESCRIPTION, task.description());
+        }
+        if (task.status() != null) {
+            size += CodedOutputStream.computeEnumSize(TASK_STATUS, statusNumber(task.status()));
+        }
+        if (task.createdAt() != null) {
+            int timestampSize = timestampSize(task.createdAt().toInstant());
+            size += CodedOutputStream.computeTagSize(TASK_CREATED_AT)
+                    + CodedOutputStream.computeUInt32SizeNoTag(timestampSize)
+                    + timestampSize;
+        }
+        if (task.version() != null) {
+            size += CodedOutputStream.computeInt64Size(TASK_VERSION, task.version());
+        }
+        return size;
+    }
+
+    private static void writeTimestamp(Instant instant, CodedOutputStream out) throws IOException {
+        if (instant.getEpochSecond() != 0) {
+            out.writeInt64(TIMESTAMP_SECONDS, instant.getEpochSecond());
+        }
+        if (instant.getNano() != 0) {
+            out.writeInt32(TIMESTAMP_NANOS, instant.getNano());
+        }
+    }
+
+    private static int timestampSize(Instant instant) {
+        int size = 0;
+        if (instant.getEpochSecond() != 0) {
+            size += CodedOutputStream.computeInt64Size(TIMESTAMP_SECONDS, instant.getEpochSecond());
+        }
+        if (instant.getNano() != 0) {
+            size += CodedOutputStream.computeInt32Size(TIMESTAMP_NANOS, instant.getNano());
+        }
+        return size;
+    }
+
+    private static OffsetDateTime readTimestamp(CodedInputStream in) throws IOException {
+        long seconds = 0;
+        int nanos = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TIMESTAMP_SECONDS -> seconds = in.readInt64();
+                case TIMESTAMP_NANOS -> nanos = in.readInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        return Instant.ofEpochSecond(seconds, nanos).atOffset(ZoneOffset.UTC);
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    // Números fixos do enum no .proto; a ordem do enum Java não faz parte do contrato
+    private static int statusNumber(TaskStatus status) {
+        return switch (status) {
+            case PENDING -> 1;
+            case IN_PROGRESS -> 2;
+            case COMPLETED -> 3;
+        };
+    }
+
+    private static TaskStatus statusOf(int number) {
+        return switch (number) {
+            case 1 -> TaskStatus.PENDING;
+            case 2 -> TaskStatus.IN_PROGRESS;
+            case 3 -> TaskStatus.COMPLETED;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.jtech.tasklist.adapters.input.protobuf;
+
+import br.com.jtech.tasklist.adapters.input.dto.CursorPageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.SliceResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Responde com {@code application/x-protobuf} (ou {@code application/protobuf}) as tarefas e os envelopes
+ * de listagem, quando pedido no {@code Accept}. Apenas escrita: as requisições continuam em JSON, CBOR ou Smile.
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType X_PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final MediaType PROTOBUF = new MediaType("application", "protobuf");
+
+    private static final Set<Class<?>> WRITABLE_TYPES = Set.of(
+            TaskResponse.class, PageResponse.class, SliceResponse.class, CursorPageResponse.class);
+
+    public TaskProtobufHttpMessageConverter() {
+        super(X_PROTOBUF, PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return WRITABLE_TYPES.contains(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        switch (body) {
+            case TaskResponse task -> TaskProtobufCodec.writeTask(task, out);
+            case PageResponse<?> page -> TaskProtobufCodec.writePage(page, out);
+            case SliceResponse<?> slice -> TaskProtobufCodec.writeSlice(slice, out);
+            case CursorPageResponse<?> page -> TaskProtobufCodec.writeCursorPage(page, out);
+            default -> throw new IllegalArgumentException("Unsupported type " + body.getClass());
+        }
+        out.flush();
+    }
+}
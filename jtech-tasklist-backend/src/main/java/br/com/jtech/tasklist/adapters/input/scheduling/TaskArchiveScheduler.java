@@ -0,0 +1,33 @@
+package br.com.jtech.tasklist.adapters.input.scheduling;
+
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executa periodicamente o arquivamento das tarefas removidas, conforme {@code tasks.archive.cron}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "tasks.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiveScheduler {
+
+    private final TaskFacade taskFacade;
+
+    @Scheduled(cron = "${tasks.archive.cron:0 */15 * * * *}")
+    public void archiveDeletedTasks() {
+        try {
+            var result = taskFacade.archiveDeletedTasks();
+            if (result.archived() > 0) {
+                log.info("::: Archived {} deleted tasks in {} chunks ({}ms).",
+                        result.archived(), result.chunks(), result.elapsed().toMillis());
+            }
+        } catch (RuntimeException e) {
+            log.error("::: Scheduled task archival failed.", e);
+        }
+    }
+}
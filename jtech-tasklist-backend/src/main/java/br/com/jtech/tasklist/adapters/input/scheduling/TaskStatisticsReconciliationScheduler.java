@@ -0,0 +1,33 @@
+package br.com.jtech.tasklist.adapters.input.scheduling;
+
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconcilia periodicamente os contadores de tarefas por status, conforme {@code tasks.stats.reconcile-interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "tasks.stats", name = "reconcile-enabled", havingValue = "true", matchIfMissing = true)
+public class TaskStatisticsReconciliationScheduler {
+
+    private final TaskFacade taskFacade;
+
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:5m}",
+            initialDelayString = "${tasks.stats.reconcile-interval:5m}")
+    public void reconcileTaskStatistics() {
+        try {
+            long drift = taskFacade.reconcileTaskStatistics();
+            if (drift > 0) {
+                log.warn("::: Task counters drifted by {} and were corrected.", drift);
+            }
+        } catch (RuntimeException e) {
+            log.error("::: Scheduled task counters reconciliation failed.", e);
+        }
+    }
+}
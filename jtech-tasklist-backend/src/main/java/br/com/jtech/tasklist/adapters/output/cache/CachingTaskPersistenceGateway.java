@@ -0,0 +1,276 @@
+package br.com.jtech.tasklist.adapters.output.cache;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.KeysetCursor;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link TaskPersistenceGateway} que guarda em memória as tarefas ativas buscadas pelo ID e pelo nome,
+ * em caches Caffeine limitados (política W-TinyLFU), e repassa as demais operações ao gateway decorado.
+ * <p>
+ * Toda escrita remove as tarefas afetadas antes de ser repassada e de novo ao fim da transação,
+ * para que uma leitura concorrente não recoloque a versão anterior ao commit. As entradas são
+ * imutáveis ({@link TaskView}); cada leitura recebe uma cópia própria do domínio. As alterações
+ * feitas por outras instâncias aparecem após a expiração ({@code timeToLive}).
+ */
+public class CachingTaskPersistenceGateway implements TaskPersistenceGateway {
+
+    private final TaskPersistenceGateway delegate;
+    private final Cache<String, TaskView> tasksById;
+    private final Cache<String, TaskView> tasksByName;
+
+    public CachingTaskPersistenceGateway(TaskPersistenceGateway delegate, long maxEntries, Duration timeToLive,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.tasksById = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maxEntries, timeToLive), "tasks.gateway.by-id");
+        this.tasksByName = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maxEntries, timeToLive), "tasks.gateway.by-name");
+    }
+
+    private static Cache<String, TaskView> newCache(long maxEntries, Duration timeToLive) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return cached(tasksById, id, delegate::findById);
+    }
+
+    @Override
+    public Optional<TaskView> findViewById(String id) {
+        TaskView cached = tasksById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TaskView> found = delegate.findViewById(id);
+        found.ifPresent(view -> tasksById.put(id, view));
+        return found;
+    }
+
+    // Base de uma gravação: precisa refletir o banco
+    @Override
+    public Optional<Task> findCurrentById(String id) {
+        return delegate.findCurrentById(id);
+    }
+
+    // Consulta de validação: precisa refletir o banco, inclusive as gravações de outras instâncias
+    @Override
+    public Optional<TaskVersion> findVersionById(String id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<Task> findByName(String name) {
+        return cached(tasksByName, name.toLowerCase(Locale.ROOT), key -> delegate.findByName(name));
+    }
+
+    // Só resultados encontrados vão para o cache: uma criação nunca precisa invalidar uma ausência
+    private static Optional<Task> cached(Cache<String, TaskView> cache, String key, Function<String, Optional<Task>> loader) {
+        TaskView cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(toDomain(cached));
+        }
+        Optional<Task> found = loader.apply(key);
+        found.ifPresent(task -> cache.put(key, toView(task)));
+        return found;
+    }
+
+    @Override
+    public Task save(Task entity) {
+        Task saved = delegate.save(entity);
+        evict(List.of(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> entities) {
+        List<Task> saved = delegate.saveAll(entities);
+        evict(saved.stream().map(Task::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> update(Task task) {
+        evict(List.of(task.getId()));
+        return delegate.update(task);
+    }
+
+    @Override
+    public Optional<Task> patch(Task task) {
+        evict(List.of(task.getId()));
+        return delegate.patch(task);
+    }
+
+    @Override
+    public int delete(String id) {
+        evict(List.of(id));
+        return delegate.delete(id);
+    }
+
+    @Override
+    public int delete(String id, long expectedVersion) {
+        evict(List.of(id));
+        return delegate.delete(id, expectedVersion);
+    }
+
+    @Override
+    public void delete(Task entity) {
+        evict(List.of(entity.getId()));
+        delegate.delete(entity);
+    }
+
+    @Override
+    public int updateStatusByIds(Collection<String> ids, TaskStatus target) {
+        evict(ids);
+        return delegate.updateStatusByIds(ids, target);
+    }
+
+    @Override
+    public int deleteByIds(Collection<String> ids) {
+        evict(ids);
+        return delegate.deleteByIds(ids);
+    }
+
+    @Override
+    public int updateStatusMatching(TaskFilter filter, TaskStatus target) {
+        evictAll();
+        return delegate.updateStatusMatching(filter, target);
+    }
+
+    @Override
+    public int deleteMatching(TaskFilter filter) {
+        evictAll();
+        return delegate.deleteMatching(filter);
+    }
+
+    // Arquiva apenas tarefas removidas, que nunca estão em cache
+    @Override
+    public int archiveDeletedBefore(OffsetDateTime cutoff, int limit) {
+        return delegate.archiveDeletedBefore(cutoff, limit);
+    }
+
+    // Insere apenas nomes livres, e ausências não ficam em cache
+    @Override
+    public BulkLoadResult bulkLoad(Iterator<Task> tasks) {
+        return delegate.bulkLoad(tasks);
+    }
+
+    @Override
+    public Optional<TaskStatus> lockStatus(String id) {
+        return delegate.lockStatus(id);
+    }
+
+    @Override
+    public List<TaskStatus> lockStatuses(Collection<String> ids) {
+        return delegate.lockStatuses(ids);
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Page<TaskView> findAllViews(TaskFilter filter, Pageable pageable) {
+        return delegate.findAllViews(filter, pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findAllViewsSlice(TaskFilter filter, Pageable pageable) {
+        return delegate.findAllViewsSlice(filter, pageable);
+    }
+
+    @Override
+    public CursorPage<TaskView> findViewsAfter(TaskFilter filter, KeysetCursor cursor, int size) {
+        return delegate.findViewsAfter(filter, cursor, size);
+    }
+
+    @Override
+    public CursorPage<TaskView> search(String query, SearchCursor after, int size) {
+        return delegate.search(query, after, size);
+    }
+
+    @Override
+    public long streamAllViews(Consumer<TaskView> consumer) {
+        return delegate.streamAllViews(consumer);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> lowerCaseNames) {
+        return delegate.findExistingNames(lowerCaseNames);
+    }
+
+    @Override
+    public long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    private void evict(Collection<String> ids) {
+        Set<String> evicted = Set.copyOf(ids);
+        evictNowAndAfterCompletion(() -> {
+            tasksById.invalidateAll(evicted);
+            // O nome antigo só é conhecido pela própria entrada em cache
+            tasksByName.asMap().values().removeIf(view -> evicted.contains(view.id()));
+        });
+    }
+
+    private void evictAll() {
+        evictNowAndAfterCompletion(() -> {
+            tasksById.invalidateAll();
+            tasksByName.invalidateAll();
+        });
+    }
+
+    private static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static TaskView toView(Task task) {
+        return new TaskView(task.getId(), task.getName(), task.getDescription(), task.getStatus(), task.getCreatedAt(),
+                task.getVersion());
+    }
+
+    private static Task toDomain(TaskView view) {
+        var task = new Task(view.id(), view.name(), view.description(), view.status(), view.createdAt());
+        task.setVersion(view.version());
+        return task;
+    }
+}
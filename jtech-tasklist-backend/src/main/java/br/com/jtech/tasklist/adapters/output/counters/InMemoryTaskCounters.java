@@ -0,0 +1,58 @@
+package br.com.jtech.tasklist.adapters.output.counters;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cópia em memória dos contadores de tarefas por status. Cada contador é um {@link LongAdder},
+ * que distribui os incrementos concorrentes entre células, então gravações simultâneas
+ * não disputam a mesma variável e a leitura não bloqueia.
+ * <p>
+ * Enquanto não for carregada, a cópia ignora as variações: a primeira carga já as inclui.
+ * Cada instância da aplicação vê apenas as próprias gravações até a próxima reconciliação.
+ */
+@Component
+public class InMemoryTaskCounters {
+
+    private final Map<TaskStatus, LongAdder> counters = new EnumMap<>(TaskStatus.class);
+    private volatile boolean loaded;
+
+    public InMemoryTaskCounters() {
+        for (TaskStatus status : TaskStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void add(TaskStatusDeltas deltas) {
+        if (loaded) {
+            deltas.values().forEach((status, delta) -> counters.get(status).add(delta));
+        }
+    }
+
+    /**
+     * Substitui os valores pelos informados. Variações aplicadas durante a troca podem se
+     * perder e são corrigidas na reconciliação seguinte.
+     */
+    public synchronized void reset(Map<TaskStatus, Long> totals) {
+        counters.forEach((status, counter) -> {
+            counter.reset();
+            counter.add(totals.getOrDefault(status, 0L));
+        });
+        loaded = true;
+    }
+
+    public Map<TaskStatus, Long> snapshot() {
+        var totals = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        counters.forEach((status, counter) -> totals.put(status, counter.sum()));
+        return totals;
+    }
+}
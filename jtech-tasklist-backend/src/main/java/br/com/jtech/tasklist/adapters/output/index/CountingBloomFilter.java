@@ -0,0 +1,130 @@
+package br.com.jtech.tasklist.adapters.output.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom com contadores de 4 bits, que aceita remoções. Uma resposta negativa de
+ * {@link #mightContain(String)} é definitiva; uma positiva pode ser falsa com a probabilidade
+ * configurada, desde que o filtro não receba mais chaves do que as previstas.
+ * <p>
+ * Os contadores ficam agrupados 16 por {@code long} e são alterados com compare-and-set, sem
+ * bloqueio. Um contador que chega a 15 fica saturado e deixa de ser decrementado, o que só pode
+ * gerar falsos positivos. Remover uma chave que não foi incluída corrompe o filtro; quem o usa
+ * precisa saber o que incluiu.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNT = COUNTER_MASK;
+
+    private final AtomicLongArray words;
+    private final AtomicLong keys = new AtomicLong();
+    private final int counters;
+    private final int hashes;
+
+    public CountingBloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedKeys must be positive and falsePositiveRate between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimal = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counters = (int) Math.min(Math.max(optimal, COUNTERS_PER_WORD), Integer.MAX_VALUE - COUNTERS_PER_WORD);
+        this.hashes = Math.max(1, (int) Math.round((double) counters / expectedKeys * ln2));
+        this.words = new AtomicLongArray((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+
+    public void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            increment(index(hash, i));
+        }
+        keys.incrementAndGet();
+    }
+
+    public void remove(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            decrement(index(hash, i));
+        }
+        keys.decrementAndGet();
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            if (count(index(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probabilidade teórica de falso positivo com a quantidade atual de chaves.
+     */
+    public double expectedFalsePositiveRate() {
+        double filled = 1 - Math.exp(-(double) hashes * Math.max(0, keys.get()) / counters);
+        return Math.pow(filled, hashes);
+    }
+
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long count(int index) {
+        return (words.get(index / COUNTERS_PER_WORD) >>> shift(index)) & COUNTER_MASK;
+    }
+
+    private void increment(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = shift(index);
+        long current;
+        do {
+            current = words.get(word);
+            if (((current >>> shift) & COUNTER_MASK) == MAX_COUNT) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current + (1L << shift)));
+    }
+
+    private void decrement(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = shift(index);
+        long current;
+        do {
+            current = words.get(word);
+            long count = (current >>> shift) & COUNTER_MASK;
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current - (1L << shift)));
+    }
+
+    private static int shift(int index) {
+        return (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    // Hashing duplo (Kirsch-Mitzenmacher): as k posições saem das duas metades de um único hash de 64 bits
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + i * h2, counters);
+    }
+
+    // FNV-1a sobre os caracteres seguido da mistura final do MurmurHash3, para espalhar os bits
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.jtech.tasklist.adapters.output.index;
+
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestion;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória dos nomes das tarefas ativas, ordenado pelo nome em minúsculas.
+ * A busca por prefixo percorre apenas o trecho do mapa ordenado que começa pelo prefixo,
+ * então o custo depende da quantidade de sugestões pedidas, e não do total de tarefas.
+ * <p>
+ * A quantidade de entradas é limitada por {@code maxEntries}; acima dele os novos nomes
+ * deixam de ser indexados e são contados em {@code tasks.name.index.dropped}.
+ * Cada instância da aplicação mantém o seu índice, e as alterações feitas por outras
+ * instâncias aparecem na recarga seguinte.
+ * <p>
+ * Ao lado do mapa, um {@link CountingBloomFilter} guarda todos os nomes, inclusive os que
+ * excederam {@code maxEntries}, para responder sem consultar o banco que um nome não está em uso.
+ * A recarga monta um filtro novo, que passa a valer quando termina; as gravações feitas durante
+ * ela entram nos dois filtros.
+ */
+@Slf4j
+public class InMemoryTaskNameIndex implements TaskNameIndex {
+
+    // Separa o nome do ID na chave; por ser o menor caractere, mantém a ordem alfabética dos nomes
+    private static final char KEY_SEPARATOR = '\u0000';
+    // Nós do skip list e do hash map, o registro e os cabeçalhos das três strings de cada entrada
+    private static final int ENTRY_OVERHEAD_BYTES = 300;
+
+    private final ConcurrentSkipListMap<String, Entry> entriesByKey = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, String> keysById = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    // Não usa synchronized: a recarga lê o banco, e uma thread virtual bloqueada no monitor prenderia a thread portadora
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final TaskPersistenceGateway persistenceGateway;
+    private final int maxEntries;
+    private final Supplier<CountingBloomFilter> filterFactory;
+    private final Counter dropped;
+    private final Counter skippedQueries;
+    private final Counter probeHits;
+    private final Counter falsePositives;
+    private volatile CountingBloomFilter names;
+    private volatile CountingBloomFilter rebuilding;
+    // Até a primeira carga o filtro não conhece os nomes já gravados e não pode descartar nenhum
+    private volatile boolean filterLoaded;
+
+    public InMemoryTaskNameIndex(TaskPersistenceGateway persistenceGateway, int maxEntries,
+                                 Supplier<CountingBloomFilter> filterFactory, MeterRegistry meterRegistry) {
+        this.persistenceGateway = persistenceGateway;
+        this.maxEntries = maxEntries;
+        this.filterFactory = filterFactory;
+        this.names = filterFactory.get();
+        Gauge.builder("tasks.name.index.entries", keysById, Map::size).register(meterRegistry);
+        Gauge.builder("tasks.name.index.capacity", () -> maxEntries).register(meterRegistry);
+        Gauge.builder("tasks.name.index.memory", estimatedBytes, AtomicLong::get)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Estimativa da memória ocupada pelo índice de nomes")
+                .register(meterRegistry);
+        this.dropped = meterRegistry.counter("tasks.name.index.dropped");
+        this.skippedQueries = meterRegistry.counter("tasks.name.filter.skipped");
+        this.probeHits = meterRegistry.counter("tasks.name.filter.probes", "result", "found");
+        this.falsePositives = meterRegistry.counter("tasks.name.filter.probes", "result", "false_positive");
+        Gauge.builder("tasks.name.filter.false_positive_rate", this, InMemoryTaskNameIndex::observedFalsePositiveRate)
+                .description("Nomes ausentes que o filtro não descartou, entre todos os nomes ausentes consultados")
+                .register(meterRegistry);
+        Gauge.builder("tasks.name.filter.expected_false_positive_rate", this, index -> index.names.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("tasks.name.filter.memory", this, index -> index.names.sizeInBytes())
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void put(String id, String name) {
+        String normalized = normalize(name);
+        var pending = rebuilding;
+        if (pending != null) {
+            pending.add(normalized);
+        }
+        keysById.compute(id, (ignored, previousKey) -> {
+            if (previousKey == null && keysById.size() >= maxEntries) {
+                // Sem a entrada não há como remover o nome depois; ele fica no filtro até a próxima recarga
+                names.add(normalized);
+                dropped.increment();
+                return null;
+            }
+            String key = normalized + KEY_SEPARATOR + id;
+            if (previousKey == null) {
+                names.add(normalized);
+            } else if (!previousKey.equals(key)) {
+                var previous = entriesByKey.remove(previousKey);
+                release(previous);
+                if (previous != null) {
+                    names.remove(normalize(previous.name()));
+                }
+                names.add(normalized);
+            }
+            var entry = new Entry(id, name, generation.get());
+            release(entriesByKey.put(key, entry));
+            estimatedBytes.addAndGet(sizeOf(entry));
+            return key;
+        });
+    }
+
+    @Override
+    public void remove(String id) {
+        removeOlderThan(id, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        ids.forEach(this::remove);
+    }
+
+    /**
+     * Recarrega todas as tarefas ativas sem esvaziar o índice, que continua respondendo durante
+     * a recarga. As entradas gravadas nesta geração, pela recarga ou pelos casos de uso, são
+     * mantidas; as demais pertencem a tarefas que deixaram de estar ativas.
+     */
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            long current = generation.incrementAndGet();
+            rebuilding = filterFactory.get();
+            long loaded;
+            try {
+                loaded = persistenceGateway.streamAllViews(view -> put(view.id(), view.name()));
+                entriesByKey.values().stream()
+                        .filter(entry -> entry.generation() < current)
+                        .map(Entry::id)
+                        .toList()
+                        .forEach(id -> removeOlderThan(id, current));
+                // As remoções acima valem só para o filtro anterior; o novo nunca recebeu esses nomes
+                names = rebuilding;
+                filterLoaded = true;
+            } finally {
+                rebuilding = null;
+            }
+            log.info("::: Task name index rebuilt with {} of {} active tasks ({}ms).",
+                    keysById.size(), loaded, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public List<TaskNameSuggestion> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        var suggestions = new ArrayList<TaskNameSuggestion>(limit);
+        for (var candidate : entriesByKey.tailMap(from).entrySet()) {
+            if (suggestions.size() == limit || !candidate.getKey().startsWith(from)) {
+                break;
+            }
+            suggestions.add(new TaskNameSuggestion(candidate.getValue().id(), candidate.getValue().name()));
+        }
+        return suggestions;
+    }
+
+    @Override
+    public boolean mightContain(String name) {
+        boolean candidate = !filterLoaded || names.mightContain(normalize(name));
+        if (!candidate) {
+            skippedQueries.increment();
+        }
+        return candidate;
+    }
+
+    @Override
+    public void recordProbe(boolean found) {
+        (found ? probeHits : falsePositives).increment();
+    }
+
+    @Override
+    public Optional<String> findIdByName(String name) {
+        String from = normalize(name) + KEY_SEPARATOR;
+        var candidate = entriesByKey.ceilingEntry(from);
+        return candidate != null && candidate.getKey().startsWith(from)
+                ? Optional.of(candidate.getValue().id())
+                : Optional.empty();
+    }
+
+    private void removeOlderThan(String id, long generation) {
+        keysById.computeIfPresent(id, (ignored, key) -> {
+            var entry = entriesByKey.get(key);
+            if (entry != null && entry.generation() >= generation) {
+                return key;
+            }
+            release(entriesByKey.remove(key));
+            if (entry != null) {
+                names.remove(normalize(entry.name()));
+            }
+            return null;
+        });
+    }
+
+    private double observedFalsePositiveRate() {
+        double absent = falsePositives.count() + skippedQueries.count();
+        return absent == 0 ? 0 : falsePositives.count() / absent;
+    }
+
+    private void release(Entry entry) {
+        if (entry != null) {
+            estimatedBytes.addAndGet(-sizeOf(entry));
+        }
+    }
+
+    // Mesma normalização do índice único LOWER(name) do banco
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // A chave repete o nome e o ID; cada caractere ocupa até dois bytes
+    private static long sizeOf(Entry entry) {
+        return ENTRY_OVERHEAD_BYTES + 4L * (entry.name().length() + entry.id().length());
+    }
+
+    private record Entry(String id, String name, long generation) {}
+}
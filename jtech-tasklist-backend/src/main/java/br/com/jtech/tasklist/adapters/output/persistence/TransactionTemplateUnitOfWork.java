@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Unidade de trabalho sobre a transação do Spring: as gravações feitas pelos gateways
+ * dentro de {@link #execute} participam da mesma transação e são confirmadas juntas.
+ */
+@Component
+public class TransactionTemplateUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionTemplateUnitOfWork(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.adapters.output.persistence.cache;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Invalida o cache de segundo nível das tarefas alteradas fora do Hibernate (SQL nativo e JDBC),
+ * que não passam pela invalidação automática das entidades e dos UPDATEs em JPQL.
+ * <p>
+ * A remoção é feita na hora e repetida ao fim da transação corrente: uma leitura concorrente
+ * que recoloque o valor antigo antes do commit é descartada logo depois dele.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Remove a tarefa e os resultados de consultas em cache, que podem referenciá-la pelo nome antigo.
+     */
+    public void evictTask(UUID id) {
+        evictNowAndAfterCompletion(cache -> {
+            cache.evictEntityData(TaskEntity.class, id);
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * Remove os resultados de consultas em cache, que não enxergam as tarefas inseridas em massa.
+     */
+    public void evictQueries() {
+        evictNowAndAfterCompletion(Cache::evictQueryRegions);
+    }
+
+    private void evictNowAndAfterCompletion(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
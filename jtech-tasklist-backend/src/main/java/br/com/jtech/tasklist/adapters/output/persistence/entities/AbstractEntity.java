@@ -3,6 +3,7 @@ package br.com.jtech.tasklist.adapters.output.persistence.entities;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class AbstractEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @CreatedDate
@@ -31,6 +32,12 @@ public abstract class AbstractEntity {
     @Column(nullable = false)
     private Boolean deleted = false;
 
+    // Controle otimista de concorrência. Os UPDATEs escritos à mão (JPQL e SQL nativo) precisam incrementá-la
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void softDelete() {
         this.deleted = true;
     }
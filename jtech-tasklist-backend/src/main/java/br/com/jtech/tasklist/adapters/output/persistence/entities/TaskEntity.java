@@ -15,6 +15,9 @@ package br.com.jtech.tasklist.adapters.output.persistence.entities;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 
@@ -24,7 +27,15 @@ import lombok.*;
 @AllArgsConstructor
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TaskEntity.CACHE_REGION)
+// O UPDATE gerado só traz as colunas alteradas: mudar o status não reenvia nome e descrição
+@DynamicUpdate
 public class TaskEntity extends AbstractEntity {
+
+    // Regiões do cache de segundo nível; os tamanhos e a expiração vêm de tasks.cache.*
+    public static final String CACHE_REGION = "tasks";
+    public static final String QUERY_CACHE_REGION = "tasks-queries";
     
     @Column(nullable = false, length = 50)
     private String name;
@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.adapters.output.persistence.entities;
+
+import br.com.jtech.tasklist.config.infra.utils.UuidV7;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Gera IDs ordenados pelo tempo em memória, antes do INSERT, mantendo o batching JDBC.
+ */
+public class UuidV7IdGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidV7.next();
+    }
+}
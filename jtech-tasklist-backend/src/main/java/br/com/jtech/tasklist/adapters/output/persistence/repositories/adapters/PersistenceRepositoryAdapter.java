@@ -9,6 +9,8 @@ import br.com.jtech.tasklist.application.ports.output.PersistenteGateway;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,13 +23,22 @@ public abstract class PersistenceRepositoryAdapter<E extends AbstractEntity, D e
     @Override
     public D save(D entity) {
         E e = this.getDefaultMapper().toEntity(entity);
-        E savedEntity = this.getDefaultRepository().save(e);
+        // O flush imediato faz violações de restrições do banco surgirem aqui, onde podem ser traduzidas
+        E savedEntity = this.getDefaultRepository().saveAndFlush(e);
         return this.getDefaultMapper().toDomain(savedEntity);
     }
 
     @Override
-    public void delete(String id) {
-        this.getDefaultRepository().softDeleteById(UUID.fromString(id));
+    public List<D> saveAll(List<D> entities) {
+        // Um único flush permite ao Hibernate agrupar os INSERTs em lotes JDBC (hibernate.jdbc.batch_size)
+        List<E> e = entities.stream().map(this.getDefaultMapper()::toEntity).toList();
+        List<E> savedEntities = this.getDefaultRepository().saveAllAndFlush(e);
+        return savedEntities.stream().map(this.getDefaultMapper()::toDomain).toList();
+    }
+
+    @Override
+    public int delete(String id) {
+        return this.getDefaultRepository().softDeleteById(UUID.fromString(id), OffsetDateTime.now());
     }
 
     @Override
@@ -0,0 +1,84 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters;
+
+import br.com.jtech.tasklist.adapters.output.counters.InMemoryTaskCounters;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc.TaskCounterRepository;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class TaskCounterRepositoryAdapter implements TaskCounterGateway {
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final InMemoryTaskCounters inMemoryCounters;
+
+    // Fora de uma transação a variação seria confirmada separadamente da gravação das tarefas
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(TaskStatusDeltas deltas) {
+        if (!deltas.isEmpty()) {
+            this.taskCounterRepository.add(deltas.values());
+            afterCommit(() -> this.inMemoryCounters.add(deltas));
+        }
+        this.taskCounterRepository.advanceRevision();
+    }
+
+    @Override
+    public TaskVersion listVersion() {
+        return this.taskCounterRepository.findRevision();
+    }
+
+    @Override
+    public TaskStatistics current() {
+        if (!this.inMemoryCounters.isLoaded()) {
+            this.inMemoryCounters.reset(this.taskCounterRepository.findAll());
+        }
+        return new TaskStatistics(this.inMemoryCounters.snapshot());
+    }
+
+    @Override
+    @Transactional
+    public long reconcile() {
+        Map<TaskStatus, Long> stored = this.taskCounterRepository.lockAll();
+        Map<TaskStatus, Long> actual = this.taskCounterRepository.countActiveByStatus();
+        var corrected = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        long drift = 0;
+        for (var entry : stored.entrySet()) {
+            long total = actual.getOrDefault(entry.getKey(), 0L);
+            if (total != entry.getValue()) {
+                corrected.put(entry.getKey(), total);
+                drift += Math.abs(total - entry.getValue());
+            }
+        }
+        if (!corrected.isEmpty()) {
+            this.taskCounterRepository.overwrite(corrected);
+            // Tarefas gravadas sem passar pelos contadores, como na importação, também mudaram a listagem
+            this.taskCounterRepository.advanceRevision();
+        }
+        // A memória também é recarregada sem divergência no banco, trazendo as gravações de outras instâncias
+        afterCommit(() -> this.inMemoryCounters.reset(actual));
+        return drift;
+    }
+
+    // A memória só acompanha o que foi confirmado; um rollback não a altera
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,15 +2,46 @@ package br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters;
 
 import br.com.jtech.tasklist.adapters.output.mapper.BasePersistenceMapper;
 import br.com.jtech.tasklist.adapters.output.mapper.TaskPersistenceMapper;
+import br.com.jtech.tasklist.adapters.output.persistence.cache.TaskCacheEvictor;
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc.TaskArchiveRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc.TaskBulkLoadRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc.TaskJdbcRepository;
 import br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa.BaseJpaRepository;
 import br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa.TaskJpaRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.search.RankedTaskView;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.search.TaskSearchRepository;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.KeysetCursor;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.config.infra.persistence.ConstraintViolations;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -18,8 +49,181 @@ public class TaskRepositoryAdapter extends PersistenceRepositoryAdapter<TaskEnti
 
     private final TaskJpaRepository taskJpaRepository;
     private final TaskPersistenceMapper taskMapper;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskBulkLoadRepository taskBulkLoadRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskCacheEvictor taskCacheEvictor;
 
+    @Override
+    public Task save(Task task) {
+        try {
+            return super.save(task);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        try {
+            return super.saveAll(tasks);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public Optional<Task> update(Task task) {
+        try {
+            return this.taskJpaRepository.updateReturning(
+                            UUID.fromString(task.getId()),
+                            task.getName(),
+                            task.getDescription(),
+                            task.getStatus(),
+                            task.getVersion(),
+                            OffsetDateTime.now())
+                    .map(this.taskMapper::toDomain);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * Altera a entidade gerenciada e descarrega na hora: com o {@code @DynamicUpdate} e o {@code @Version},
+     * o Hibernate emite um único {@code UPDATE} das colunas alteradas condicionado à versão lida.
+     * Uma gravação concorrente entre a leitura e o {@code UPDATE} propaga a
+     * {@link ObjectOptimisticLockingFailureException}: a transação já está marcada para rollback.
+     */
+    @Override
+    @Transactional
+    public Optional<Task> patch(Task task) {
+        var found = this.taskJpaRepository.findById(UUID.fromString(task.getId()))
+                .filter(entity -> !entity.getDeleted() && entity.getVersion().equals(task.getVersion()));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        var entity = found.get();
+        entity.setName(task.getName());
+        entity.setDescription(task.getDescription());
+        entity.setStatus(task.getStatus());
+        try {
+            this.taskJpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+        return Optional.of(this.taskMapper.toDomain(entity));
+    }
+
+    @Override
+    public int updateStatusByIds(Collection<String> ids, TaskStatus target) {
+        return this.taskJpaRepository.updateStatusByIds(toUuids(ids), target, OffsetDateTime.now());
+    }
+
+    @Override
+    public int updateStatusMatching(TaskFilter filter, TaskStatus target) {
+        return this.taskJpaRepository.updateStatusByStatus(filter.status(), target, OffsetDateTime.now());
+    }
+
+    @Override
+    public int delete(String id, long expectedVersion) {
+        return this.taskJpaRepository.softDeleteByIdAndVersion(UUID.fromString(id), expectedVersion, OffsetDateTime.now());
+    }
+
+    @Override
+    public int deleteByIds(Collection<String> ids) {
+        return this.taskJpaRepository.softDeleteAllById(toUuids(ids), OffsetDateTime.now());
+    }
+
+    @Override
+    public int deleteMatching(TaskFilter filter) {
+        return this.taskJpaRepository.softDeleteByStatus(filter.status(), OffsetDateTime.now());
+    }
+
+    // Uma transação por lote mantém curtos os bloqueios sobre as linhas movidas
+    @Override
+    @Transactional
+    public int archiveDeletedBefore(OffsetDateTime cutoff, int limit) {
+        return this.taskArchiveRepository.moveChunk(cutoff, limit);
+    }
+
+    /**
+     * Busca pela chave primária para ser servida pelo cache de segundo nível; as tarefas removidas
+     * também ficam em cache e são descartadas aqui.
+     */
+    @Override
+    public Optional<TaskView> findViewById(String id) {
+        return this.taskJpaRepository.findById(UUID.fromString(id))
+                .filter(task -> !task.getDeleted())
+                .map(task -> new TaskView(task.getId(), task.getName(), task.getDescription(),
+                        task.getStatus(), task.getCreatedAt(), task.getVersion()));
+    }
+
+    // Consulta JPQL: vai ao banco mesmo com a entidade no cache de segundo nível
+    @Override
+    public Optional<Task> findCurrentById(String id) {
+        return this.taskJpaRepository.findByIdAndDeletedFalse(UUID.fromString(id))
+                .map(this.taskMapper::toDomain);
+    }
 
+    @Override
+    public Optional<TaskVersion> findVersionById(String id) {
+        return this.taskJpaRepository.findVersionById(UUID.fromString(id));
+    }
+
+    @Override
+    public Optional<TaskStatus> lockStatus(String id) {
+        return this.taskJpaRepository.lockStatusById(UUID.fromString(id));
+    }
+
+    @Override
+    public List<TaskStatus> lockStatuses(Collection<String> ids) {
+        return this.taskJpaRepository.lockStatusesByIds(toUuids(ids));
+    }
+
+    @Override
+    public Page<TaskView> findAllViews(TaskFilter filter, Pageable pageable) {
+        return this.taskJpaRepository.findViews(filter, pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findAllViewsSlice(TaskFilter filter, Pageable pageable) {
+        return this.taskJpaRepository.findViewSlice(filter, pageable);
+    }
+
+    @Override
+    public CursorPage<TaskView> findViewsAfter(TaskFilter filter, KeysetCursor cursor, int size) {
+        List<TaskView> rows = cursor == null
+                ? this.taskJpaRepository.findKeysetViews(filter, null, null, size + 1)
+                : this.taskJpaRepository.findKeysetViews(filter, cursor.createdAt(), UUID.fromString(cursor.id()), size + 1);
+        return CursorPage.fromOverfetch(rows, size, last -> new KeysetCursor(last.createdAt(), last.id()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskView> search(String query, SearchCursor after, int size) {
+        List<RankedTaskView> rows = this.taskSearchRepository.search(query, after, size + 1);
+        return CursorPage.fromOverfetch(rows, size, last -> new SearchCursor(last.rank(), last.task().id()))
+                .map(RankedTaskView::task);
+    }
+
+    /**
+     * Percorre todas as tarefas ativas mantendo a transação (e o cursor do banco) aberta até o fim.
+     * As linhas são projeções, não entidades gerenciadas, então o contexto de persistência não cresce.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAllViews(Consumer<TaskView> consumer) {
+        long count = 0;
+        try (Stream<TaskView> rows = this.taskJpaRepository.streamAllViews()) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
 
     @Override
     public Optional<Task> findByName(String name) {
@@ -27,6 +231,45 @@ public class TaskRepositoryAdapter extends PersistenceRepositoryAdapter<TaskEnti
                 .map(this.taskMapper::toDomain);
     }
 
+    @Override
+    public Set<String> findExistingNames(Collection<String> lowerCaseNames) {
+        if (lowerCaseNames.isEmpty()) {
+            return Set.of();
+        }
+        return this.taskJpaRepository.findActiveLowerNames(lowerCaseNames);
+    }
+
+    /**
+     * A área de preparação e a mesclagem precisam da mesma conexão, por isso a carga
+     * inteira ocorre em uma única transação: ou todos os registros válidos entram, ou nenhum.
+     */
+    @Override
+    @Transactional
+    public BulkLoadResult bulkLoad(Iterator<Task> tasks) {
+        this.taskCacheEvictor.evictQueries();
+        return this.taskBulkLoadRepository.load(tasks);
+    }
+
+    @Override
+    public long estimateCount() {
+        return this.taskJdbcRepository.estimateActiveCount();
+    }
+
+    private static List<UUID> toUuids(Collection<String> ids) {
+        try {
+            return ids.stream().map(UUID::fromString).toList();
+        } catch (IllegalArgumentException e) {
+            throw new DomainInvalidArgumentException("error.task.bulk.ids.invalid");
+        }
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException e) {
+        if (ConstraintViolations.isViolationOf(e, ConstraintViolations.TASKS_ACTIVE_NAME)) {
+            return new DomainResourceAlreadyExists("error.task.name.already_exists");
+        }
+        return e;
+    }
+
     @Override
     protected BasePersistenceMapper<TaskEntity, Task> getDefaultMapper() {
         return this.taskMapper;
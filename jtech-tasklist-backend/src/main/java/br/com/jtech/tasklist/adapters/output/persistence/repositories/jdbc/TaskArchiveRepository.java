@@ -0,0 +1,84 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc;
+
+import br.com.jtech.tasklist.config.infra.persistence.DatabaseVendor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Move tarefas removidas da tabela {@code tasks} para {@code tasks_archive}.
+ * Cada chamada move no máximo um lote e deve ocorrer dentro de uma transação.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+
+    // Um único comando remove e arquiva o lote. SKIP LOCKED deixa de fora linhas bloqueadas
+    // por outra transação, inclusive por uma execução concorrente do próprio arquivamento.
+    // Um ID já arquivado recebe a cópia removida agora: a linha apagada de tasks nunca é descartada
+    private static final String MOVE_CHUNK_POSTGRES = """
+            WITH moved AS (
+                DELETE FROM tasks
+                WHERE id IN (SELECT id FROM tasks
+                             WHERE deleted = true AND updated_at < :cutoff
+                             ORDER BY id
+                             LIMIT :limit
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING id, name, description, status, created_at, updated_at)
+            INSERT INTO tasks_archive (id, name, description, status, created_at, updated_at, archived_at)
+            SELECT id, name, description, status, created_at, updated_at, LOCALTIMESTAMP FROM moved
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                status = EXCLUDED.status,
+                created_at = EXCLUDED.created_at,
+                updated_at = EXCLUDED.updated_at,
+                archived_at = EXCLUDED.archived_at
+            """;
+
+    private static final String SELECT_CHUNK = """
+            SELECT id FROM tasks
+            WHERE deleted = true AND updated_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    // Como no PostgreSQL, um ID já arquivado recebe a cópia removida agora
+    private static final String COPY_TO_ARCHIVE = """
+            MERGE INTO tasks_archive (id, name, description, status, created_at, updated_at, archived_at) KEY (id)
+            SELECT id, name, description, status, created_at, updated_at, LOCALTIMESTAMP FROM tasks
+            WHERE id IN (:ids)
+            """;
+
+    private static final String DELETE_ARCHIVED = "DELETE FROM tasks WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    /**
+     * @return quantidade de tarefas movidas para o arquivo
+     */
+    public int moveChunk(OffsetDateTime cutoff, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.from(cutoff.toInstant()))
+                .addValue("limit", limit);
+        if (databaseVendor.isPostgres()) {
+            return jdbcTemplate.update(MOVE_CHUNK_POSTGRES, params);
+        }
+        // Sem DELETE ... RETURNING em CTE, o lote é selecionado, copiado e removido em três comandos
+        List<UUID> ids = jdbcTemplate.queryForList(SELECT_CHUNK, params, UUID.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        var idParams = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(COPY_TO_ARCHIVE, idParams);
+        return jdbcTemplate.update(DELETE_ARCHIVED, idParams);
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.config.infra.persistence.DatabaseVendor;
+import br.com.jtech.tasklist.config.infra.utils.UuidV7;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga em massa de tarefas em duas etapas, dentro da transação do chamador:
+ * <ol>
+ *     <li>os registros são copiados para uma tabela temporária de preparação, via
+ *     {@code COPY ... FROM STDIN} no PostgreSQL ou INSERTs em lote nos demais bancos;</li>
+ *     <li>um único {@code INSERT ... SELECT} move para {@code tasks} a primeira ocorrência de
+ *     cada nome, ignorando os nomes que já pertencem a uma tarefa ativa.</li>
+ * </ol>
+ * Assim nenhum registro passa pelo contexto de persistência do Hibernate e os conflitos
+ * de nome são resolvidos pelo banco de uma só vez, e não linha a linha.
+ */
+@Slf4j
+@Repository
+public class TaskBulkLoadRepository {
+
+    private static final String STAGING_COLUMNS = "(seq BIGINT NOT NULL, id UUID NOT NULL, name VARCHAR(50) NOT NULL,"
+            + " description VARCHAR(500) NOT NULL, status VARCHAR(20) NOT NULL)";
+
+    private static final String CREATE_STAGING_POSTGRES =
+            "CREATE TEMP TABLE tasks_import_staging " + STAGING_COLUMNS + " ON COMMIT DROP";
+
+    // TRANSACTIONAL evita que o H2 confirme a transação corrente ao criar a tabela
+    private static final String CREATE_STAGING_H2 =
+            "CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS tasks_import_staging " + STAGING_COLUMNS
+                    + " ON COMMIT DROP TRANSACTIONAL";
+
+    private static final String COPY_STAGING =
+            "COPY tasks_import_staging (seq, id, name, description, status) FROM STDIN (FORMAT csv)";
+
+    private static final String INSERT_STAGING =
+            "INSERT INTO tasks_import_staging (seq, id, name, description, status) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String COUNT_DUPLICATED_IN_STAGING =
+            "SELECT COUNT(*) - COUNT(DISTINCT LOWER(name)) FROM tasks_import_staging";
+
+    // DISTINCT ON mantém a primeira ocorrência de cada nome; a ordenação externa por seq
+    // insere os IDs (UUIDv7) em ordem crescente, sempre no fim do índice da chave primária.
+    // ON CONFLICT cobre também tarefas criadas por outras transações durante a carga.
+    private static final String MERGE_POSTGRES = """
+            INSERT INTO tasks (id, name, description, status, created_at, updated_at, deleted)
+            SELECT d.id, d.name, d.description, d.status, LOCALTIMESTAMP, LOCALTIMESTAMP, false
+            FROM (SELECT DISTINCT ON (LOWER(s.name)) s.seq, s.id, s.name, s.description, s.status
+                  FROM tasks_import_staging s
+                  ORDER BY LOWER(s.name), s.seq) d
+            ORDER BY d.seq
+            ON CONFLICT (LOWER(name)) WHERE deleted = false DO NOTHING
+            """;
+
+    private static final String MERGE_PORTABLE = """
+            INSERT INTO tasks (id, name, description, status, created_at, updated_at, deleted)
+            SELECT s.id, s.name, s.description, s.status, LOCALTIMESTAMP, LOCALTIMESTAMP, false
+            FROM tasks_import_staging s
+            WHERE s.seq = (SELECT MIN(f.seq) FROM tasks_import_staging f WHERE LOWER(f.name) = LOWER(s.name))
+              AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.deleted = false AND LOWER(t.name) = LOWER(s.name))
+            ORDER BY s.seq
+            """;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+    private final Timer stageTimer;
+    private final Timer mergeTimer;
+    private final AtomicLong stagedRows;
+
+    public TaskBulkLoadRepository(JdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+        this.stageTimer = Timer.builder("tasks.import.phase").tag("phase", "stage")
+                .description("Tempo gasto copiando registros para a área de preparação").register(meterRegistry);
+        this.mergeTimer = Timer.builder("tasks.import.phase").tag("phase", "merge")
+                .description("Tempo gasto mesclando a área de preparação na tabela de tarefas").register(meterRegistry);
+        this.stagedRows = meterRegistry.gauge("tasks.import.staged.rows", new AtomicLong());
+    }
+
+    /**
+     * Deve ser chamado dentro de uma transação: a tabela de preparação só existe na conexão
+     * que a criou e é descartada no commit.
+     */
+    public BulkLoadResult load(Iterator<Task> tasks) {
+        stagedRows.set(0);
+        long staged = databaseVendor.isPostgres()
+                ? stageTimer.record(() -> copyToStaging(tasks))
+                : stageTimer.record(() -> insertIntoStaging(tasks));
+        if (staged == 0) {
+            return new BulkLoadResult(0, 0, 0);
+        }
+        return mergeTimer.record(() -> {
+            Long duplicated = jdbcTemplate.queryForObject(COUNT_DUPLICATED_IN_STAGING, Long.class);
+            int inserted = jdbcTemplate.update(databaseVendor.isPostgres() ? MERGE_POSTGRES : MERGE_PORTABLE);
+            log.info("::: Task import merged {} of {} staged rows.", inserted, staged);
+            return new BulkLoadResult(staged, inserted, duplicated != null ? duplicated : 0);
+        });
+    }
+
+    private long copyToStaging(Iterator<Task> tasks) {
+        jdbcTemplate.execute(CREATE_STAGING_POSTGRES);
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+                long seq = 0;
+                while (tasks.hasNext()) {
+                    appendCsvRow(buffer, ++seq, tasks.next());
+                    if (buffer.length() >= COPY_BUFFER_SIZE) {
+                        writeToCopy(copy, buffer);
+                    }
+                    progress(seq);
+                }
+                writeToCopy(copy, buffer);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        });
+    }
+
+    private long insertIntoStaging(Iterator<Task> tasks) {
+        jdbcTemplate.execute(CREATE_STAGING_H2);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        long seq = 0;
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            batch.add(new Object[]{++seq, UuidV7.next(), task.getName(), task.getDescription(), task.getStatus().name()});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_STAGING, batch);
+                batch.clear();
+            }
+            progress(seq);
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_STAGING, batch);
+        }
+        return seq;
+    }
+
+    private void progress(long seq) {
+        stagedRows.set(seq);
+        if (seq % PROGRESS_INTERVAL == 0) {
+            log.info("::: Task import staged {} rows.", seq);
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder buffer, long seq, Task task) {
+        buffer.append(seq).append(',')
+                .append(UuidV7.next()).append(',');
+        appendQuoted(buffer, task.getName());
+        buffer.append(',');
+        appendQuoted(buffer, task.getDescription());
+        buffer.append(',').append(task.getStatus().name()).append('\n');
+    }
+
+    // Campos de texto sempre entre aspas: no CSV do COPY um campo vazio sem aspas seria lido como NULL
+    private static void appendQuoted(StringBuilder buffer, String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    private static void writeToCopy(CopyIn copy, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Acesso à tabela {@code task_counters}, que guarda a quantidade de tarefas ativas por status,
+ * e à revisão da listagem em {@code task_list_revision}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCounterRepository {
+
+    private static final String ADD = "UPDATE task_counters SET total = total + :delta WHERE status = :status";
+
+    private static final String OVERWRITE = "UPDATE task_counters SET total = :total WHERE status = :status";
+
+    private static final String SELECT_ALL = "SELECT status, total FROM task_counters";
+
+    // Mesma ordem de add(): a do enum, e não a alfabética da coluna
+    private static final String LOCK_ALL = "SELECT status, total FROM task_counters ORDER BY "
+            + statusOrder() + " FOR UPDATE";
+
+    private static final String ADVANCE_REVISION =
+            "UPDATE task_list_revision SET revision = revision + 1, changed_at = :now WHERE id = 1";
+
+    private static final String SELECT_REVISION = "SELECT revision, changed_at FROM task_list_revision WHERE id = 1";
+
+    private static final String COUNT_ACTIVE_BY_STATUS =
+            "SELECT status, COUNT(*) AS total FROM tasks WHERE deleted = false GROUP BY status";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Soma as variações aos contadores. As linhas são atualizadas sempre na ordem do enum, a mesma
+     * de {@link #lockAll()}, para que transações concorrentes as bloqueiem na mesma ordem e não
+     * entrem em deadlock.
+     */
+    public void add(Map<TaskStatus, Long> deltas) {
+        var ordered = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        ordered.putAll(deltas);
+        jdbcTemplate.batchUpdate(ADD, ordered.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("status", entry.getKey().name())
+                        .addValue("delta", entry.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    public void overwrite(Map<TaskStatus, Long> totals) {
+        jdbcTemplate.batchUpdate(OVERWRITE, totals.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("status", entry.getKey().name())
+                        .addValue("total", entry.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    public Map<TaskStatus, Long> findAll() {
+        return query(SELECT_ALL);
+    }
+
+    /**
+     * Lê os contadores bloqueando as linhas até o fim da transação. Gravações concorrentes
+     * esperam, então a contagem feita em seguida não perde as variações delas.
+     */
+    public Map<TaskStatus, Long> lockAll() {
+        return query(LOCK_ALL);
+    }
+
+    /**
+     * Avança a revisão da listagem. A linha fica bloqueada até o fim da transação, então as revisões
+     * seguem a ordem dos commits; quem a chama já bloqueou os contadores, sempre antes dela.
+     */
+    public void advanceRevision() {
+        jdbcTemplate.update(ADVANCE_REVISION, new MapSqlParameterSource("now", OffsetDateTime.now()));
+    }
+
+    public TaskVersion findRevision() {
+        return jdbcTemplate.queryForObject(SELECT_REVISION, new MapSqlParameterSource(), (rs, rowNum) ->
+                new TaskVersion(Long.toString(rs.getLong("revision")), rs.getObject("changed_at", OffsetDateTime.class)));
+    }
+
+    public Map<TaskStatus, Long> countActiveByStatus() {
+        return query(COUNT_ACTIVE_BY_STATUS);
+    }
+
+    private static String statusOrder() {
+        var order = new StringBuilder("CASE status");
+        for (TaskStatus status : TaskStatus.values()) {
+            order.append(" WHEN '").append(status.name()).append("' THEN ").append(status.ordinal());
+        }
+        return order.append(" END").toString();
+    }
+
+    private Map<TaskStatus, Long> query(String sql) {
+        var totals = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        jdbcTemplate.query(sql, rs -> {
+            totals.put(TaskStatus.valueOf(rs.getString("status")), rs.getLong("total"));
+        });
+        return totals;
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jdbc;
+
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa.TaskJpaRepository;
+import br.com.jtech.tasklist.config.infra.persistence.DatabaseVendor;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Consultas sobre a tabela {@code tasks} que dependem de SQL específico do banco
+ * e, por isso, não são expressas pelo Spring Data JPA.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    private static final String EXPLAIN_ACTIVE_TASKS = "EXPLAIN (FORMAT JSON) SELECT 1 FROM tasks WHERE deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+    private final TaskJpaRepository taskJpaRepository;
+
+    /**
+     * Estima a quantidade de tarefas ativas a partir das estatísticas do planejador,
+     * sem percorrer a tabela. Fora do PostgreSQL recorre à contagem exata.
+     *
+     * @return quantidade estimada de tarefas não deletadas
+     */
+    public long estimateActiveCount() {
+        if (!databaseVendor.isPostgres()) {
+            return taskJpaRepository.countByDeletedFalse();
+        }
+        String plan = jdbcTemplate.queryForObject(EXPLAIN_ACTIVE_TASKS, String.class);
+        try {
+            return Jsons.getMapper().readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            log.warn("::: Failed to read planner estimate, falling back to exact count.", e);
+            return taskJpaRepository.countByDeletedFalse();
+        }
+    }
+}
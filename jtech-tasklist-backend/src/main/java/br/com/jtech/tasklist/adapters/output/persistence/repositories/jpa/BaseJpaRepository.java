@@ -4,8 +4,14 @@ import br.com.jtech.tasklist.adapters.output.persistence.entities.AbstractEntity
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,14 +21,39 @@ public interface BaseJpaRepository<T extends AbstractEntity> extends JpaReposito
 
     Page<T> findAllByDeletedFalse(Pageable pageable);
 
+    long countByDeletedFalse();
+
     default void softDelete(T entity) {
         entity.softDelete();
         save(entity);
     }
 
-    default void softDeleteById(UUID id) {
-        Optional<T> entity = findByIdAndDeletedFalse(id);
-        entity.ifPresent(this::softDelete);
-    }
-}
+    /**
+     * Soft delete em um único UPDATE, sem carregar a entidade. Como o comando não passa
+     * pelo auditing do JPA, {@code updatedAt} é recebido como parâmetro.
+     *
+     * @return quantidade de linhas afetadas (0 quando não existe registro ativo com o ID)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deleted = true, e.updatedAt = :now, e.version = e.version + 1"
+            + " WHERE e.id = :id AND e.deleted = false")
+    int softDeleteById(@Param("id") UUID id, @Param("now") OffsetDateTime now);
 
+    /**
+     * Soft delete condicionado à versão lida pelo cliente, em um único UPDATE.
+     *
+     * @return quantidade de linhas afetadas (0 quando o registro não está ativo ou mudou de versão)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deleted = true, e.updatedAt = :now, e.version = e.version + 1"
+            + " WHERE e.id = :id AND e.version = :version AND e.deleted = false")
+    int softDeleteByIdAndVersion(@Param("id") UUID id, @Param("version") long version, @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} e SET e.deleted = true, e.updatedAt = :now, e.version = e.version + 1"
+            + " WHERE e.id IN :ids AND e.deleted = false")
+    int softDeleteAllById(@Param("ids") Collection<UUID> ids, @Param("now") OffsetDateTime now);
+}
@@ -1,13 +1,90 @@
 package br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa;
 
 import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskJpaRepository extends BaseJpaRepository<TaskEntity> {
-    
+public interface TaskJpaRepository extends BaseJpaRepository<TaskEntity>, TaskJpaRepositoryCustom {
+
+    // Projeção de leitura: instancia TaskView direto do ResultSet, sem entidade no contexto de persistência
+    String SELECT_TASK_VIEW = "SELECT new br.com.jtech.tasklist.application.dto.task.TaskView("
+            + "t.id, t.name, t.description, t.status, t.createdAt, t.version) FROM TaskEntity t";
+
+    String EXPORT_FETCH_SIZE = "1000";
+
+    // SELECT ... FOR UPDATE: o status lido não muda até o fim da transação que vai alterá-lo
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.status FROM TaskEntity t WHERE t.id = :id AND t.deleted = false")
+    Optional<TaskStatus> lockStatusById(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.status FROM TaskEntity t WHERE t.id IN :ids AND t.deleted = false")
+    List<TaskStatus> lockStatusesByIds(@Param("ids") Collection<UUID> ids);
+
+    // Cursor no servidor: o driver busca EXPORT_FETCH_SIZE linhas por vez em vez de materializar o ResultSet inteiro.
+    // No PostgreSQL o fetch size só vale dentro de uma transação (autocommit desligado)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_TASK_VIEW + " WHERE t.deleted = false ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskView> streamAllViews();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TaskEntity.QUERY_CACHE_REGION)
+    })
     @Query("SELECT t FROM TaskEntity t WHERE LOWER(t.name) = LOWER(:name) AND t.deleted = false")
     Optional<TaskEntity> findByNameAndDeletedFalse(@Param("name") String name);
+
+    // Versão da tarefa para requisições condicionais: lê duas colunas pela chave primária, sem montar a entidade.
+    // Fora do cache de consultas, local a cada instância: decide o 304 e precisa ver as gravações de todas elas
+    @Query("SELECT new br.com.jtech.tasklist.application.dto.task.TaskVersion(t.version, t.updatedAt)"
+            + " FROM TaskEntity t WHERE t.id = :id AND t.deleted = false")
+    Optional<TaskVersion> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT LOWER(t.name) FROM TaskEntity t WHERE t.deleted = false AND LOWER(t.name) IN :names")
+    Set<String> findActiveLowerNames(@Param("names") Collection<String> names);
+
+    // As transições para o próprio status são excluídas para não reescrever linhas que não mudam
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.status = :target, t.updatedAt = :now, t.version = t.version + 1"
+            + " WHERE t.id IN :ids AND t.deleted = false AND t.status <> :target")
+    int updateStatusByIds(@Param("ids") Collection<UUID> ids,
+                          @Param("target") TaskStatus target,
+                          @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.status = :target, t.updatedAt = :now, t.version = t.version + 1"
+            + " WHERE t.status = :status AND t.deleted = false AND t.status <> :target")
+    int updateStatusByStatus(@Param("status") TaskStatus status,
+                             @Param("target") TaskStatus target,
+                             @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.deleted = true, t.updatedAt = :now, t.version = t.version + 1"
+            + " WHERE t.status = :status AND t.deleted = false")
+    int softDeleteByStatus(@Param("status") TaskStatus status, @Param("now") OffsetDateTime now);
 }
@@ -0,0 +1,48 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Operações de {@link TaskJpaRepository} implementadas com SQL nativo ou com consultas
+ * montadas conforme os critérios informados.
+ */
+public interface TaskJpaRepositoryCustom {
+
+    /**
+     * Atualiza uma tarefa ativa e devolve o registro resultante no mesmo comando,
+     * preservando {@code created_at} no servidor e incrementando a versão.
+     *
+     * @param expectedVersion versão lida pelo cliente; nula para atualizar qualquer que seja a versão
+     * @return a tarefa atualizada, ou vazio quando não existe tarefa ativa com o ID (e a versão)
+     */
+    Optional<TaskEntity> updateReturning(UUID id, String name, String description, TaskStatus status,
+                                         Long expectedVersion, OffsetDateTime now);
+
+    /**
+     * Página de tarefas ativas que atendem ao filtro. Sem ordenação informada, ordena por
+     * {@code createdAt} e ID, a ordem dos índices parciais sobre as tarefas ativas.
+     */
+    Page<TaskView> findViews(TaskFilter filter, Pageable pageable);
+
+    /**
+     * Fatia de tarefas ativas que atendem ao filtro, sem a contagem total.
+     */
+    Slice<TaskView> findViewSlice(TaskFilter filter, Pageable pageable);
+
+    /**
+     * Tarefas ativas que atendem ao filtro em ordem de {@code createdAt} e ID, a partir
+     * da posição informada (exclusiva), ou do início quando {@code createdAt} é nulo.
+     */
+    List<TaskView> findKeysetViews(TaskFilter filter, OffsetDateTime createdAt, UUID id, int limit);
+}
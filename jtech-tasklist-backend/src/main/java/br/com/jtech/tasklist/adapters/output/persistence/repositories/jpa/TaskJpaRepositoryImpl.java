@@ -0,0 +1,176 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa;
+
+import br.com.jtech.tasklist.adapters.output.persistence.cache.TaskCacheEvictor;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.config.infra.persistence.DatabaseVendor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class TaskJpaRepositoryImpl implements TaskJpaRepositoryCustom {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String CREATED_AT = "createdAt";
+    private static final String DELETED = "deleted";
+    private static final String VERSION = "version";
+
+    private static final String TASK_COLUMNS = "id, name, description, status, created_at, updated_at, deleted, version";
+
+    private static final String UPDATE_ACTIVE_TASK = "UPDATE tasks"
+            + " SET name = :name, description = :description, status = :status, updated_at = :now, version = version + 1"
+            + " WHERE id = :id AND deleted = false";
+
+    // Controle otimista: a linha só muda se ainda estiver na versão que o cliente leu
+    private static final String UPDATE_ACTIVE_TASK_AT_VERSION = UPDATE_ACTIVE_TASK + " AND version = :version";
+
+    private static final String POSTGRES_UPDATE_RETURNING = UPDATE_ACTIVE_TASK + " RETURNING " + TASK_COLUMNS;
+
+    private static final String POSTGRES_UPDATE_AT_VERSION_RETURNING = UPDATE_ACTIVE_TASK_AT_VERSION + " RETURNING " + TASK_COLUMNS;
+
+    // O H2 não tem RETURNING; a tabela delta FINAL TABLE devolve as linhas já atualizadas
+    private static final String H2_UPDATE_RETURNING = "SELECT " + TASK_COLUMNS + " FROM FINAL TABLE (" + UPDATE_ACTIVE_TASK + ")";
+
+    private static final String H2_UPDATE_AT_VERSION_RETURNING =
+            "SELECT " + TASK_COLUMNS + " FROM FINAL TABLE (" + UPDATE_ACTIVE_TASK_AT_VERSION + ")";
+
+    private final DatabaseVendor databaseVendor;
+    private final TaskCacheEvictor taskCacheEvictor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<TaskEntity> updateReturning(UUID id, String name, String description, TaskStatus status,
+                                                Long expectedVersion, OffsetDateTime now) {
+        String sql = expectedVersion == null
+                ? (databaseVendor.isPostgres() ? POSTGRES_UPDATE_RETURNING : H2_UPDATE_RETURNING)
+                : (databaseVendor.isPostgres() ? POSTGRES_UPDATE_AT_VERSION_RETURNING : H2_UPDATE_AT_VERSION_RETURNING);
+        // O Hibernate trata o comando como consulta: a linha devolvida, ainda sem commit, não vai para o
+        // cache de segundo nível e a versão anterior que estiver lá é invalidada explicitamente
+        taskCacheEvictor.evictTask(id);
+        Query query = entityManager.createNativeQuery(sql, TaskEntity.class)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .setParameter("id", id)
+                .setParameter("name", name)
+                .setParameter("description", description)
+                .setParameter("status", status.name())
+                .setParameter("now", now);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        List<TaskEntity> rows = query.getResultList();
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Page<TaskView> findViews(TaskFilter filter, Pageable pageable) {
+        List<TaskView> content = pagedViews(filter, pageable, pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE);
+        return PageableExecutionUtils.getPage(content, pageable, () -> countViews(filter));
+    }
+
+    @Override
+    public Slice<TaskView> findViewSlice(TaskFilter filter, Pageable pageable) {
+        // Busca um registro a mais apenas para saber se existe próxima fatia
+        List<TaskView> rows = pagedViews(filter, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<TaskView> findKeysetViews(TaskFilter filter, OffsetDateTime createdAt, UUID id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        List<Predicate> predicates = activeMatching(cb, task, filter);
+        if (createdAt != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(task.<OffsetDateTime>get(CREATED_AT), createdAt),
+                    cb.and(cb.equal(task.get(CREATED_AT), createdAt), cb.greaterThan(task.<UUID>get(ID), id))));
+        }
+        query.select(view(cb, task))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(keysetOrder(cb, task));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<TaskView> pagedViews(TaskFilter filter, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        query.select(view(cb, task))
+                .where(activeMatching(cb, task, filter).toArray(Predicate[]::new))
+                .orderBy(pageable.getSort().isSorted()
+                        ? QueryUtils.toOrders(pageable.getSort(), task, cb)
+                        : keysetOrder(cb, task));
+        TypedQuery<TaskView> typed = entityManager.createQuery(query).setMaxResults(maxResults);
+        if (pageable.isPaged()) {
+            typed.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        }
+        return typed.getResultList();
+    }
+
+    private long countViews(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        query.select(cb.count(task)).where(activeMatching(cb, task, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Apenas os critérios informados entram na consulta; "deleted" vira literal para casar com os índices parciais
+    private static List<Predicate> activeMatching(CriteriaBuilder cb, Root<TaskEntity> task, TaskFilter filter) {
+        var predicates = new ArrayList<Predicate>();
+        predicates.add(cb.isFalse(task.<Boolean>get(DELETED)));
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get(STATUS), filter.status()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.<OffsetDateTime>get(CREATED_AT), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThan(task.<OffsetDateTime>get(CREATED_AT), filter.createdTo()));
+        }
+        return predicates;
+    }
+
+    private static CompoundSelection<TaskView> view(CriteriaBuilder cb, Root<TaskEntity> task) {
+        return cb.construct(TaskView.class,
+                task.get(ID), task.get(NAME), task.get(DESCRIPTION), task.get(STATUS), task.get(CREATED_AT), task.get(VERSION));
+    }
+
+    private static List<Order> keysetOrder(CriteriaBuilder cb, Root<TaskEntity> task) {
+        return List.of(cb.asc(task.get(CREATED_AT)), cb.asc(task.get(ID)));
+    }
+}
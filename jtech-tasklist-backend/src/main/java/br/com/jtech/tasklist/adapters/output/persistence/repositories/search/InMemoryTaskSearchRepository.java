@@ -0,0 +1,90 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.search;
+
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa.TaskJpaRepository;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Busca portável para bancos sem índice de texto completo (H2). Percorre as tarefas ativas
+ * em streaming e mantém apenas as {@code limit} mais relevantes em um heap, de modo que a
+ * memória usada não depende do tamanho da tabela. Deve ser chamada dentro de uma transação.
+ * Reproduz a semântica básica da implementação do PostgreSQL: todos os termos precisam aparecer,
+ * como palavras inteiras e sem diferenciar maiúsculas, e o nome pesa mais que a descrição.
+ * Os operadores de frase e de exclusão não são interpretados.
+ */
+public class InMemoryTaskSearchRepository implements TaskSearchRepository {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    // Mesma ordem do PostgreSQL: pontuação decrescente e ID crescente
+    private static final Comparator<RankedTaskView> SEARCH_ORDER = Comparator
+            .comparing(RankedTaskView::rank, Comparator.reverseOrder())
+            .thenComparing(ranked -> ranked.task().id());
+
+    private final TaskJpaRepository taskJpaRepository;
+
+    public InMemoryTaskSearchRepository(TaskJpaRepository taskJpaRepository) {
+        this.taskJpaRepository = taskJpaRepository;
+    }
+
+    @Override
+    public List<RankedTaskView> search(String query, SearchCursor after, int limit) {
+        Set<String> terms = words(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        // Heap invertido: a cabeça é a pior tarefa retida, descartada quando surge uma melhor
+        PriorityQueue<RankedTaskView> best = new PriorityQueue<>(limit + 1, SEARCH_ORDER.reversed());
+        try (Stream<TaskView> rows = taskJpaRepository.streamAllViews()) {
+            rows.forEach(task -> {
+                float rank = rank(terms, task);
+                if (rank <= 0 || (after != null && !after.precedes(rank, task.id()))) {
+                    return;
+                }
+                best.offer(new RankedTaskView(task, rank));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            });
+        }
+        return best.stream().sorted(SEARCH_ORDER).toList();
+    }
+
+    private static float rank(Set<String> terms, TaskView task) {
+        Set<String> name = words(task.name());
+        Set<String> description = words(task.description());
+        float rank = 0;
+        for (String term : terms) {
+            boolean inName = name.contains(term);
+            boolean inDescription = description.contains(term);
+            if (!inName && !inDescription) {
+                return 0;
+            }
+            rank += (inName ? NAME_WEIGHT : 0) + (inDescription ? DESCRIPTION_WEIGHT : 0);
+        }
+        return rank;
+    }
+
+    private static Set<String> words(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_WORD.split(normalized))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.search;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca pela coluna gerada {@code search_vector} e seu índice GIN. {@code websearch_to_tsquery}
+ * aceita a sintaxe usual de buscadores (aspas para frases, {@code -} para excluir um termo) sem
+ * falhar com entradas malformadas. Nome pesa mais que descrição na pontuação.
+ */
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    private static final String RANKED_MATCHES = """
+            SELECT r.id, r.name, r.description, r.status, r.created_at, r.version, r.rank
+            FROM (SELECT t.id, t.name, t.description, t.status, t.created_at, t.version,
+                         ts_rank_cd(t.search_vector, q.query) AS rank
+                  FROM tasks t, websearch_to_tsquery('simple', :query) AS q(query)
+                  WHERE t.deleted = false AND t.search_vector @@ q.query) r
+            """;
+
+    private static final String ORDER_AND_LIMIT = " ORDER BY r.rank DESC, r.id ASC LIMIT :limit";
+
+    private static final String FIRST_PAGE = RANKED_MATCHES + ORDER_AND_LIMIT;
+
+    private static final String PAGE_AFTER = RANKED_MATCHES
+            + " WHERE r.rank < :rank OR (r.rank = :rank AND r.id > :id)" + ORDER_AND_LIMIT;
+
+    private final EntityManager entityManager;
+
+    public PostgresTaskSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RankedTaskView> search(String query, SearchCursor after, int limit) {
+        NativeQuery<Object[]> nativeQuery = entityManager
+                .createNativeQuery(after == null ? FIRST_PAGE : PAGE_AFTER)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("name", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", OffsetDateTime.class)
+                .addScalar("version", Long.class)
+                .addScalar("rank", Float.class);
+        nativeQuery.setParameter("query", query);
+        nativeQuery.setParameter("limit", limit);
+        if (after != null) {
+            nativeQuery.setParameter("rank", after.rank());
+            nativeQuery.setParameter("id", UUID.fromString(after.id()));
+        }
+        return nativeQuery.getResultList().stream()
+                .map(row -> new RankedTaskView(
+                        new TaskView((UUID) row[0], (String) row[1], (String) row[2],
+                                TaskStatus.valueOf((String) row[3]), (OffsetDateTime) row[4], (Long) row[5]),
+                        (Float) row[6]))
+                .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.search;
+
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+
+/**
+ * Tarefa encontrada pela busca, acompanhada da sua pontuação de relevância.
+ */
+public record RankedTaskView(TaskView task, float rank) {
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.adapters.output.persistence.repositories.search;
+
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+
+import java.util.List;
+
+/**
+ * Busca textual sobre nome e descrição das tarefas ativas. A implementação depende do banco:
+ * no PostgreSQL usa o índice de texto completo; nos demais, o filtro é feito na aplicação.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * @param query termos da busca; todos precisam estar presentes na tarefa
+     * @param after posição a partir da qual buscar, ou {@code null}
+     * @param limit quantidade máxima de tarefas retornadas
+     * @return tarefas ordenadas por pontuação decrescente e ID crescente
+     */
+    List<RankedTaskView> search(String query, SearchCursor after, int limit);
+}
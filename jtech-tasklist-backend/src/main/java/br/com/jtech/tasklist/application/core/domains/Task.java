@@ -24,6 +24,8 @@ public class Task extends AbstractDomainEntity {
     private String description;
     private TaskStatus status;
     private OffsetDateTime createdAt;
+    // Versão persistida; nula em tarefas novas ou quando a gravação não depende da versão lida
+    private Long version;
 
     public Task() {
         super();
@@ -81,4 +83,8 @@ public class Task extends AbstractDomainEntity {
     public void setCreatedAt(OffsetDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.core.exceptions;
+
+public class DomainResourceVersionConflict extends DomainException {
+    public DomainResourceVersionConflict(String message) {
+        super(message);
+    }
+}
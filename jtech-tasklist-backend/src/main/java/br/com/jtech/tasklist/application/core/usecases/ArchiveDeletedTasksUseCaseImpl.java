@@ -0,0 +1,68 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ArchiveDeletedTasksUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.batch.ArchivePolicy;
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+import br.com.jtech.tasklist.application.ports.input.common.ArchiveEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Move as tarefas removidas há mais tempo que a retenção para o arquivo, em lotes curtos
+ * e independentes, com uma pausa entre eles. Um lote incompleto indica que não restam
+ * registros elegíveis; ao atingir o limite de lotes, o restante fica para a próxima execução.
+ */
+public record ArchiveDeletedTasksUseCaseImpl(
+        TaskPersistenceGateway persistenceGateway,
+        ArchivePolicy policy
+) implements ArchiveEntitiesUseCase {
+
+    @Override
+    public ArchiveResult execute() {
+        long start = System.nanoTime();
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(policy.retention());
+        long archived = 0;
+        int chunks = 0;
+        boolean completed = false;
+
+        while (chunks < policy.maxChunks()) {
+            int moved = persistenceGateway.archiveDeletedBefore(cutoff, policy.chunkSize());
+            chunks++;
+            archived += moved;
+            if (moved < policy.chunkSize()) {
+                completed = true;
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return new ArchiveResult(archived, chunks, completed, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private boolean pause() {
+        if (policy.pause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(policy.pause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
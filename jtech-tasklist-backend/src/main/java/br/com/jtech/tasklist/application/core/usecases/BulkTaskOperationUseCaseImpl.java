@@ -0,0 +1,100 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)BulkTaskOperationUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskOperation;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskResult;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.input.common.BulkOperationUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+
+public record BulkTaskOperationUseCaseImpl(
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
+) implements BulkOperationUseCase<BulkTaskCommand, BulkTaskResult> {
+
+    public static final int MAX_IDS = 1000;
+
+    @Override
+    public BulkTaskResult execute(BulkTaskCommand command) {
+        validate(command);
+        int affected = unitOfWork.execute(() -> command.selectsByIds() ? applyByIds(command) : applyMatching(command));
+        if (command.operation() == BulkTaskOperation.DELETE && affected > 0) {
+            // A remoção por filtro não informa quais tarefas saíram
+            if (command.selectsByIds()) {
+                nameIndex.removeAll(command.ids());
+            } else {
+                nameIndex.rebuild();
+            }
+        }
+        return new BulkTaskResult(command.operation(), affected);
+    }
+
+    // As tarefas selecionadas ficam bloqueadas até a confirmação, então os status lidos são os que serão alterados
+    private int applyByIds(BulkTaskCommand command) {
+        var statuses = persistenteGateway.lockStatuses(command.ids());
+        int affected;
+        var deltas = TaskStatusDeltas.none();
+        if (command.operation() == BulkTaskOperation.SET_STATUS) {
+            affected = persistenteGateway.updateStatusByIds(command.ids(), command.targetStatus());
+            for (var status : statuses) {
+                deltas = deltas.plus(status, -1).plus(command.targetStatus(), 1);
+            }
+        } else {
+            affected = persistenteGateway.deleteByIds(command.ids());
+            for (var status : statuses) {
+                deltas = deltas.plus(status, -1);
+            }
+        }
+        counterGateway.apply(deltas);
+        return affected;
+    }
+
+    // O filtro seleciona um único status, então todas as tarefas alteradas saem dele
+    private int applyMatching(BulkTaskCommand command) {
+        var from = command.filter().status();
+        if (command.operation() == BulkTaskOperation.SET_STATUS) {
+            int affected = persistenteGateway.updateStatusMatching(command.filter(), command.targetStatus());
+            counterGateway.apply(TaskStatusDeltas.moved(from, command.targetStatus(), affected));
+            return affected;
+        }
+        int affected = persistenteGateway.deleteMatching(command.filter());
+        counterGateway.apply(TaskStatusDeltas.of(from, -affected));
+        return affected;
+    }
+
+    private void validate(BulkTaskCommand command) {
+        if (command.operation() == null) {
+            throw new DomainInvalidArgumentException("error.task.bulk.operation.mandatory");
+        }
+        // Exatamente uma forma de seleção; um filtro vazio selecionaria todas as tarefas
+        boolean hasIds = command.ids() != null;
+        boolean hasFilter = command.filter() != null && !command.filter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new DomainInvalidArgumentException("error.task.bulk.selection.invalid");
+        }
+        if (hasIds && (command.ids().isEmpty() || command.ids().size() > MAX_IDS)) {
+            throw new DomainInvalidArgumentException("error.task.bulk.ids.size");
+        }
+        if (command.operation() == BulkTaskOperation.SET_STATUS && command.targetStatus() == null) {
+            throw new DomainInvalidArgumentException("error.task.status.mandatory");
+        }
+    }
+}
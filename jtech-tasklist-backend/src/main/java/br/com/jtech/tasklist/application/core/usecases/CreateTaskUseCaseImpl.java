@@ -12,29 +12,36 @@ package br.com.jtech.tasklist.application.core.usecases;
  *  license agreement you entered into with J-Tech.
  *
  */
-import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
 import br.com.jtech.tasklist.application.ports.input.common.CreateEntityUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
 import jakarta.validation.Valid;
 
 public record CreateTaskUseCaseImpl (
-        TaskPersistenceGateway persistenteGateway
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
 ) implements CreateEntityUseCase<CreateTaskCommand, TaskOutput> {
 
 
+    /**
+     * A unicidade do nome é garantida pelo índice único do banco; o gateway
+     * traduz a violação em {@code DomainResourceAlreadyExists}.
+     */
     @Override
     public TaskOutput execute(@Valid CreateTaskCommand command) {
-        verifyIfTaskNameAlreadyExists(command.name());
-        var createdTask = persistenteGateway.save(command.toEntity());
+        var createdTask = unitOfWork.execute(() -> {
+            var task = persistenteGateway.save(command.toEntity());
+            counterGateway.apply(TaskStatusDeltas.of(task.getStatus(), 1));
+            return task;
+        });
+        nameIndex.put(createdTask.getId(), createdTask.getName());
         return new TaskOutput(createdTask);
     }
-
-    private void verifyIfTaskNameAlreadyExists(String name) {
-        persistenteGateway.findByName(name)
-                .ifPresent(task -> {
-                    throw new DomainResourceAlreadyExists("error.task.name.already_exists");
-                });
-    }
-}
\ No newline at end of file
+}
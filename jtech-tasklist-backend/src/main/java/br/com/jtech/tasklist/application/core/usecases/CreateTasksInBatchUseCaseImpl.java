@@ -0,0 +1,131 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)CreateTasksInBatchUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemResult;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemStatus;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.input.common.CreateEntitiesInBatchUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public record CreateTasksInBatchUseCaseImpl(
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
+) implements CreateEntitiesInBatchUseCase<CreateTaskCommand, TaskOutput> {
+
+    // Cada nova tentativa só acontece depois que outra gravação confirmou um dos nomes
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    @Override
+    public List<BatchItemResult<TaskOutput>> execute(List<CreateTaskCommand> commands) {
+        var names = commands.stream().map(command -> normalize(command.name())).toList();
+        var existingNames = findExistingNames(names);
+
+        @SuppressWarnings("unchecked")
+        BatchItemResult<TaskOutput>[] results = new BatchItemResult[commands.size()];
+        var accepted = new ArrayList<Task>();
+        var acceptedIndexes = new ArrayList<Integer>();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            var name = names.get(i);
+            if (existingNames.contains(name)) {
+                results[i] = BatchItemResult.rejected(i, BatchItemStatus.ALREADY_EXISTS, "error.task.name.already_exists");
+            } else if (!seen.add(name)) {
+                results[i] = BatchItemResult.rejected(i, BatchItemStatus.DUPLICATED_IN_BATCH, "error.task.name.duplicated_in_batch");
+            } else {
+                accepted.add(commands.get(i).toEntity());
+                acceptedIndexes.add(i);
+            }
+        }
+
+        var created = saveAccepted(accepted, acceptedIndexes, results);
+        for (int i = 0; i < created.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BatchItemResult.created(index, new TaskOutput(created.get(i)));
+            nameIndex.put(created.get(i).getId(), created.get(i).getName());
+        }
+        return Arrays.asList(results);
+    }
+
+    // Só vão ao banco os nomes que o filtro não descarta; sem nenhum, a consulta não é feita
+    private Set<String> findExistingNames(List<String> names) {
+        var candidates = names.stream().distinct().filter(nameIndex::mightContain).toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        var existing = persistenteGateway.findExistingNames(candidates);
+        candidates.forEach(candidate -> nameIndex.recordProbe(existing.contains(candidate)));
+        return existing;
+    }
+
+    /**
+     * Verificação e gravação não são atômicas: um nome criado por outra requisição depois da consulta
+     * faz o índice único recusar o lote inteiro. A transação é desfeita, os nomes restantes são
+     * conferidos de novo no banco e os que já existem saem do lote como {@code ALREADY_EXISTS}.
+     */
+    private List<Task> saveAccepted(List<Task> accepted, List<Integer> acceptedIndexes,
+                                    BatchItemResult<TaskOutput>[] results) {
+        for (int attempt = 1; !accepted.isEmpty(); attempt++) {
+            try {
+                return unitOfWork.execute(() -> saveAndCount(accepted));
+            } catch (DomainResourceAlreadyExists e) {
+                if (attempt == MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                var taken = persistenteGateway.findExistingNames(accepted.stream()
+                        .map(task -> normalize(task.getName()))
+                        .toList());
+                for (int i = accepted.size() - 1; i >= 0; i--) {
+                    if (taken.contains(normalize(accepted.get(i).getName()))) {
+                        int index = acceptedIndexes.remove(i);
+                        accepted.remove(i);
+                        results[index] = BatchItemResult.rejected(index, BatchItemStatus.ALREADY_EXISTS,
+                                "error.task.name.already_exists");
+                    }
+                }
+            }
+        }
+        return List.of();
+    }
+
+    private List<Task> saveAndCount(List<Task> tasks) {
+        var saved = persistenteGateway.saveAll(tasks);
+        var deltas = TaskStatusDeltas.none();
+        for (Task task : saved) {
+            deltas = deltas.plus(task.getStatus(), 1);
+        }
+        counterGateway.apply(deltas);
+        return saved;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
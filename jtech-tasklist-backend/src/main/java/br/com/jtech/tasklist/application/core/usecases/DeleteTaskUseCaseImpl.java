@@ -13,18 +13,35 @@ package br.com.jtech.tasklist.application.core.usecases;
  *
  */
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
 import br.com.jtech.tasklist.application.ports.input.common.DeleteEntityUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
 
 public record DeleteTaskUseCaseImpl(
-        TaskPersistenceGateway persistenteGateway
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
 ) implements DeleteEntityUseCase {
 
     @Override
-    public void execute(String entityId) {
-        persistenteGateway.findById(entityId)
-                .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
-        
-        persistenteGateway.delete(entityId);
+    public void execute(String entityId, Long expectedVersion) {
+        unitOfWork.execute(() -> {
+            var status = persistenteGateway.lockStatus(entityId)
+                    .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
+            int deleted = expectedVersion == null
+                    ? persistenteGateway.delete(entityId)
+                    : persistenteGateway.delete(entityId, expectedVersion);
+            if (deleted == 0) {
+                throw new DomainResourceVersionConflict("error.task.version.conflict");
+            }
+            counterGateway.apply(TaskStatusDeltas.of(status, -1));
+            return null;
+        });
+        nameIndex.remove(entityId);
     }
 }
@@ -0,0 +1,45 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ExistsTaskByNameUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.ports.input.common.ExistsEntityByNameUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+public record ExistsTaskByNameUseCaseImpl(
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex
+) implements ExistsEntityByNameUseCase {
+
+    // Mesmo limite do nome da tarefa; nomes maiores nunca existem
+    public static final int MAX_NAME_LENGTH = 50;
+
+    /**
+     * Só consulta o banco quando o filtro de nomes não descarta o nome; a maior parte dos
+     * nomes novos é respondida em memória. O filtro desta instância pode não conhecer ainda um nome
+     * criado por outra, então uma resposta negativa vale até a próxima recarga do índice.
+     */
+    @Override
+    public boolean execute(String name) {
+        if (name == null || name.isBlank()) {
+            throw new DomainInvalidArgumentException("error.task.name.mandatory");
+        }
+        if (name.length() > MAX_NAME_LENGTH || !nameIndex.mightContain(name)) {
+            return false;
+        }
+        boolean exists = persistenteGateway.findByName(name).isPresent();
+        nameIndex.recordProbe(exists);
+        return exists;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ExportTasksUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.ports.input.common.ExportEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+import java.util.function.Consumer;
+
+public record ExportTasksUseCaseImpl(
+        TaskPersistenceGateway persistenceGateway
+) implements ExportEntitiesUseCase<TaskOutput> {
+
+    @Override
+    public long execute(Consumer<TaskOutput> sink) {
+        return persistenceGateway.streamAllViews(view -> sink.accept(new TaskOutput(view)));
+    }
+}
@@ -12,6 +12,9 @@
  */
 package br.com.jtech.tasklist.application.core.usecases;
 
+import br.com.jtech.tasklist.application.dto.pagination.SliceResult;
+import br.com.jtech.tasklist.application.dto.pagination.TotalsMode;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
 import br.com.jtech.tasklist.application.ports.input.common.FindAllEntitiesUseCase;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
@@ -20,11 +23,20 @@ import org.springframework.data.domain.Pageable;
 
 public record FindAllTasksUseCaseImpl(
         TaskPersistenceGateway persistenceGateway
-) implements FindAllEntitiesUseCase<TaskOutput> {
+) implements FindAllEntitiesUseCase<TaskOutput, TaskFilter> {
 
     @Override
-    public Page<TaskOutput> execute(Pageable pageable) {
-        return persistenceGateway.findAll(pageable)
+    public Page<TaskOutput> execute(TaskFilter filter, Pageable pageable) {
+        return persistenceGateway.findAllViews(filter, pageable)
                 .map(TaskOutput::new);
     }
+
+    @Override
+    public SliceResult<TaskOutput> execute(TaskFilter filter, Pageable pageable, TotalsMode totals) {
+        var slice = persistenceGateway.findAllViewsSlice(filter, pageable)
+                .map(TaskOutput::new);
+        // A estimativa vem das estatísticas da tabela inteira e não vale para uma seleção filtrada
+        Long estimatedTotal = totals == TotalsMode.ESTIMATE && filter.isEmpty() ? persistenceGateway.estimateCount() : null;
+        return new SliceResult<>(slice, estimatedTotal);
+    }
 }
@@ -23,7 +23,7 @@ public record FindTaskByIdUseCaseImpl(
 
     @Override
     public TaskOutput execute(String entityId) {
-        var task = persistenteGateway.findById(entityId)
+        var task = persistenteGateway.findViewById(entityId)
                 .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
         
         return new TaskOutput(task);
@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTaskStatisticsUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityStatisticsUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+
+public record FindTaskStatisticsUseCaseImpl(
+        TaskCounterGateway counterGateway
+) implements FindEntityStatisticsUseCase<TaskStatistics> {
+
+    @Override
+    public TaskStatistics execute() {
+        return counterGateway.current();
+    }
+}
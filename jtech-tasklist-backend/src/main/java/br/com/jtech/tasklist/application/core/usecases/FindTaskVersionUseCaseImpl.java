@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTaskVersionUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityVersionUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+public record FindTaskVersionUseCaseImpl(
+        TaskPersistenceGateway persistenteGateway
+) implements FindEntityVersionUseCase<TaskVersion> {
+
+    @Override
+    public TaskVersion execute(String entityId) {
+        return persistenteGateway.findVersionById(entityId)
+                .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  @(#)FindTasksByCursorUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.KeysetCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesByCursorUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+public record FindTasksByCursorUseCaseImpl(
+        TaskPersistenceGateway persistenceGateway
+) implements FindEntitiesByCursorUseCase<TaskOutput, TaskFilter> {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    @Override
+    public CursorPage<TaskOutput> execute(TaskFilter filter, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DomainInvalidArgumentException("error.pagination.size.invalid");
+        }
+        var position = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+        return persistenceGateway.findViewsAfter(filter, position, size)
+                .map(TaskOutput::new);
+    }
+}
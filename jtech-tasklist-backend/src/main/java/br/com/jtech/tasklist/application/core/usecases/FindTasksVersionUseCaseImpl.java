@@ -0,0 +1,31 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTasksVersionUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesVersionUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+
+public record FindTasksVersionUseCaseImpl(
+        TaskCounterGateway counterGateway
+) implements FindEntitiesVersionUseCase<TaskVersion> {
+
+    /**
+     * Toda gravação, inclusive o soft delete, avança a revisão da listagem na mesma transação,
+     * então a versão muda a cada commit, sem consultar a tabela de tarefas.
+     */
+    @Override
+    public TaskVersion execute() {
+        return counterGateway.listVersion();
+    }
+}
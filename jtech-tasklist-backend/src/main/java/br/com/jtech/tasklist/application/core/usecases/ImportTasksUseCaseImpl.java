@@ -0,0 +1,88 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ImportTasksUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.ports.input.common.ImportEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public record ImportTasksUseCaseImpl(
+        TaskPersistenceGateway persistenceGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway
+) implements ImportEntitiesUseCase<CreateTaskCommand> {
+
+    @Override
+    public ImportResult execute(Iterator<CreateTaskCommand> source) {
+        long start = System.nanoTime();
+        var tasks = new ValidTasks(source);
+        BulkLoadResult load = persistenceGateway.bulkLoad(tasks);
+        if (load.inserted() > 0) {
+            // A carga não informa quais tarefas foram gravadas nem com quais status
+            nameIndex.rebuild();
+            counterGateway.reconcile();
+        }
+        return ImportResult.of(tasks.read, tasks.rejected, load, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Converte os comandos em tarefas à medida que a carga os consome, descartando
+     * os que violam as regras do domínio. Os conflitos de nome ficam a cargo da carga,
+     * que os resolve de uma só vez no banco.
+     */
+    private static final class ValidTasks implements Iterator<Task> {
+
+        private final Iterator<CreateTaskCommand> source;
+        private Task next;
+        private long read;
+        private long rejected;
+
+        private ValidTasks(Iterator<CreateTaskCommand> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && source.hasNext()) {
+                CreateTaskCommand command = source.next();
+                read++;
+                try {
+                    next = command.toEntity();
+                } catch (DomainInvalidArgumentException e) {
+                    rejected++;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Task task = next;
+            next = null;
+            return task;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)PatchTaskUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.input.common.PatchEntityUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+
+public record PatchTaskUseCaseImpl(
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
+) implements PatchEntityUseCase<PatchTaskCommand, TaskOutput> {
+
+    @Override
+    public TaskOutput execute(PatchTaskCommand command) {
+        var patched = unitOfWork.execute(() -> {
+            var task = persistenteGateway.findCurrentById(command.id())
+                    .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
+            if (command.expectedVersion() != null && !command.expectedVersion().equals(task.getVersion())) {
+                throw new DomainResourceVersionConflict("error.task.version.conflict");
+            }
+            var previousName = task.getName();
+            var previousStatus = task.getStatus();
+            command.applyTo(task);
+            // O UPDATE é condicionado à versão lida acima, então o status anterior continua válido para os contadores
+            var updated = persistenteGateway.patch(task)
+                    .orElseThrow(() -> new DomainResourceVersionConflict("error.task.version.conflict"));
+            counterGateway.apply(TaskStatusDeltas.moved(previousStatus, updated.getStatus(), 1));
+            return new Patched(updated, !previousName.equals(updated.getName()));
+        });
+        // Sem troca de nome, o índice de nomes já está correto
+        if (patched.renamed()) {
+            nameIndex.put(patched.task().getId(), patched.task().getName());
+        }
+        return new TaskOutput(patched.task());
+    }
+
+    private record Patched(Task task, boolean renamed) {
+    }
+}
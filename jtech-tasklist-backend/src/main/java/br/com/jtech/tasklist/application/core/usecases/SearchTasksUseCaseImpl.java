@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)SearchTasksUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.ports.input.common.SearchEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchGateway;
+
+public record SearchTasksUseCaseImpl(
+        TaskSearchGateway searchGateway
+) implements SearchEntitiesUseCase<TaskOutput> {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    @Override
+    public CursorPage<TaskOutput> execute(String query, String cursor, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new DomainInvalidArgumentException("error.search.query.invalid");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new DomainInvalidArgumentException("error.search.size.invalid");
+        }
+        var position = (cursor == null || cursor.isBlank()) ? null : SearchCursor.decode(cursor);
+        return searchGateway.search(query.strip(), position, size)
+                .map(TaskOutput::new);
+    }
+}
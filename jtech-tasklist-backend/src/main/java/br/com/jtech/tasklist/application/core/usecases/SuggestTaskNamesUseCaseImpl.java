@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)SuggestTaskNamesUseCaseImpl.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestions;
+import br.com.jtech.tasklist.application.ports.input.common.SuggestEntityNamesUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+
+public record SuggestTaskNamesUseCaseImpl(
+        TaskNameIndex nameIndex
+) implements SuggestEntityNamesUseCase<TaskNameSuggestions> {
+
+    public static final int MAX_LIMIT = 20;
+    // Mesmo limite do nome da tarefa; prefixos maiores nunca teriam sugestões
+    public static final int MAX_PREFIX_LENGTH = 50;
+
+    @Override
+    public TaskNameSuggestions execute(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new DomainInvalidArgumentException("error.suggest.prefix.invalid");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new DomainInvalidArgumentException("error.suggest.limit.invalid");
+        }
+        return new TaskNameSuggestions(
+                nameIndex.suggest(prefix, limit),
+                nameIndex.findIdByName(prefix).orElse(null));
+    }
+}
@@ -12,38 +12,41 @@ package br.com.jtech.tasklist.application.core.usecases;
  *  license agreement you entered into with J-Tech.
  *
  */
-import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
 import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
 import br.com.jtech.tasklist.application.ports.input.common.UpdateEntityUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
 import jakarta.validation.Valid;
 
 public record UpdateTaskUseCaseImpl(
-        TaskPersistenceGateway persistenteGateway
+        TaskPersistenceGateway persistenteGateway,
+        TaskNameIndex nameIndex,
+        TaskCounterGateway counterGateway,
+        UnitOfWork unitOfWork
 ) implements UpdateEntityUseCase<UpdateTaskCommand, TaskOutput> {
 
     @Override
     public TaskOutput execute(@Valid UpdateTaskCommand command) {
-        var existingTask = persistenteGateway.findById(command.id())
-                .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
-
-        verifyIfTaskNameAlreadyExistsForOtherTask(command.name(), command.id());
-        
-        var updatedTask = new Task(command.id(), command.name(), command.description(), command.status());
-        updatedTask.setCreatedAt(existingTask.getCreatedAt());
-        var savedTask = persistenteGateway.save(updatedTask);
-        return new TaskOutput(savedTask);
-    }
-
-    private void verifyIfTaskNameAlreadyExistsForOtherTask(String name, String currentTaskId) {
-        persistenteGateway.findByName(name)
-                .ifPresent(task -> {
-                    if (!task.getId().equals(currentTaskId)) {
-                        throw new DomainResourceAlreadyExists("error.task.name.already_exists");
-                    }
-                });
+        var task = new Task(command.id(), command.name(), command.description(), command.status());
+        task.setVersion(command.expectedVersion());
+        var updatedTask = unitOfWork.execute(() -> {
+            // O bloqueio da linha garante que o status anterior não muda até a confirmação
+            var previousStatus = persistenteGateway.lockStatus(task.getId())
+                    .orElseThrow(() -> new DomainResourceNotFoundException("error.task.not_found"));
+            // A tarefa existe e está bloqueada: se o UPDATE condicional não a alterou, a versão mudou
+            var updated = persistenteGateway.update(task)
+                    .orElseThrow(() -> new DomainResourceVersionConflict("error.task.version.conflict"));
+            counterGateway.apply(TaskStatusDeltas.moved(previousStatus, updated.getStatus(), 1));
+            return updated;
+        });
+        nameIndex.put(updatedTask.getId(), updatedTask.getName());
+        return new TaskOutput(updatedTask);
     }
 }
@@ -8,4 +8,8 @@ public abstract class OutputDto<T extends AbstractDomainEntity> implements BaseD
     public OutputDto(T entity) {
         fromEntity(entity);
     }
+
+    // Para saídas montadas a partir de projeções de leitura, sem passar pela entidade de domínio
+    protected OutputDto() {
+    }
 }
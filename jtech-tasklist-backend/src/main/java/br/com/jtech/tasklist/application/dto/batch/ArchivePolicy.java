@@ -0,0 +1,14 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+import java.time.Duration;
+
+/**
+ * Parâmetros do arquivamento de registros removidos.
+ *
+ * @param retention tempo mínimo desde a remoção para que o registro seja arquivado
+ * @param chunkSize quantidade máxima de registros movidos por transação
+ * @param maxChunks quantidade máxima de lotes por execução
+ * @param pause intervalo entre lotes, para limitar a carga sobre o banco
+ */
+public record ArchivePolicy(Duration retention, int chunkSize, int maxChunks, Duration pause) {
+}
@@ -0,0 +1,14 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+import java.time.Duration;
+
+/**
+ * Resumo de uma execução do arquivamento.
+ *
+ * @param archived registros movidos para o arquivo
+ * @param chunks lotes executados
+ * @param completed indica se não restaram registros elegíveis ao final da execução
+ * @param elapsed duração total da execução, incluindo as pausas entre lotes
+ */
+public record ArchiveResult(long archived, int chunks, boolean completed, Duration elapsed) {
+}
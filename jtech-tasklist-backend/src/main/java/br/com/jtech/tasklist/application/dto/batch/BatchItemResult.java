@@ -0,0 +1,24 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+/**
+ * Resultado de um item de uma operação em lote, identificado pela sua posição na requisição.
+ *
+ * @param index posição do item na lista recebida
+ * @param status resultado do processamento do item
+ * @param value entidade criada, quando o item foi aceito
+ * @param error chave da mensagem de erro, quando o item foi rejeitado
+ */
+public record BatchItemResult<T>(int index, BatchItemStatus status, T value, String error) {
+
+    public static <T> BatchItemResult<T> created(int index, T value) {
+        return new BatchItemResult<>(index, BatchItemStatus.CREATED, value, null);
+    }
+
+    public static <T> BatchItemResult<T> rejected(int index, BatchItemStatus status, String error) {
+        return new BatchItemResult<>(index, status, null, error);
+    }
+
+    public boolean isCreated() {
+        return status == BatchItemStatus.CREATED;
+    }
+}
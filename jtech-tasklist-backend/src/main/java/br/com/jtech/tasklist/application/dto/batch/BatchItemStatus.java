@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+/**
+ * Resultado de cada item de uma operação em lote.
+ */
+public enum BatchItemStatus {
+    CREATED,
+    DUPLICATED_IN_BATCH,
+    ALREADY_EXISTS
+}
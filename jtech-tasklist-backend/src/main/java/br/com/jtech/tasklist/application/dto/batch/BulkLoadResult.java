@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+/**
+ * Resultado da carga em massa de registros já validados.
+ *
+ * @param staged registros recebidos pela área de preparação
+ * @param inserted registros efetivamente gravados
+ * @param duplicatedInInput registros descartados por repetirem um nome anterior do próprio arquivo
+ */
+public record BulkLoadResult(long staged, long inserted, long duplicatedInInput) {
+
+    /**
+     * Registros descartados porque já existia um registro ativo com o mesmo nome.
+     */
+    public long alreadyExisting() {
+        return staged - duplicatedInInput - inserted;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.jtech.tasklist.application.dto.batch;
+
+import java.time.Duration;
+
+/**
+ * Resumo de uma importação em massa.
+ *
+ * @param read registros lidos do arquivo
+ * @param rejected registros descartados por não respeitarem as regras do domínio
+ * @param imported registros gravados
+ * @param duplicatedInInput registros descartados por repetirem um nome anterior do próprio arquivo
+ * @param alreadyExisting registros descartados porque o nome já pertencia a um registro ativo
+ * @param elapsed duração total da importação
+ */
+public record ImportResult(long read,
+                           long rejected,
+                           long imported,
+                           long duplicatedInInput,
+                           long alreadyExisting,
+                           Duration elapsed) {
+
+    public static ImportResult of(long read, long rejected, BulkLoadResult load, Duration elapsed) {
+        return new ImportResult(read, rejected, load.inserted(), load.duplicatedInInput(), load.alreadyExisting(), elapsed);
+    }
+
+    /**
+     * Vazão da importação em registros lidos por segundo.
+     */
+    public double rowsPerSecond() {
+        long millis = Math.max(elapsed.toMillis(), 1);
+        return read * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma paginação por chave. {@code next} é nulo quando não há mais registros.
+ */
+public record CursorPage<T>(List<T> content, PageCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} registros: o registro
+     * excedente indica que existe próxima página, sem necessidade de COUNT.
+     */
+    public static <T> CursorPage<T> fromOverfetch(List<T> rows, int size, Function<? super T, ? extends PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, size);
+        return new CursorPage<>(page, cursorOf.apply(page.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, next);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma paginação por chave (seek), composta pela chave de ordenação
+ * ({@code createdAt}) e pelo ID como critério de desempate.
+ * Trafega para o cliente como um token opaco em Base64 URL-safe.
+ */
+public record KeysetCursor(OffsetDateTime createdAt, String id) implements PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    @Override
+    public String encode() {
+        var raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new DomainInvalidArgumentException("error.pagination.cursor.invalid");
+            }
+            var createdAt = OffsetDateTime.parse(raw.substring(0, separator));
+            var id = UUID.fromString(raw.substring(separator + 1)).toString();
+            return new KeysetCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainInvalidArgumentException("error.pagination.cursor.invalid", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+/**
+ * Posição de uma paginação por chave, com o ID como último critério de desempate.
+ * Cada ordenação define seu próprio cursor; todos trafegam como um token opaco.
+ */
+public interface PageCursor {
+
+    String id();
+
+    String encode();
+}
@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma paginação por relevância, ordenada pela pontuação decrescente
+ * e pelo ID crescente como desempate. A pontuação trafega com a precisão de {@code float},
+ * a mesma do {@code real} devolvido pelo banco, para que a comparação seja exata.
+ */
+public record SearchCursor(float rank, String id) implements PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    @Override
+    public String encode() {
+        var raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indica se a posição {@code (rank, id)} vem depois deste cursor na ordenação da busca.
+     */
+    public boolean precedes(float rank, String id) {
+        int byRank = Float.compare(rank, this.rank);
+        return byRank < 0 || (byRank == 0 && id.compareTo(this.id) > 0);
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new DomainInvalidArgumentException("error.pagination.cursor.invalid");
+            }
+            var rank = Float.parseFloat(raw.substring(0, separator));
+            var id = UUID.fromString(raw.substring(separator + 1)).toString();
+            return new SearchCursor(rank, id);
+        } catch (IllegalArgumentException e) {
+            throw new DomainInvalidArgumentException("error.pagination.cursor.invalid", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.function.Function;
+
+/**
+ * Fatia de uma listagem, acompanhada opcionalmente de um total estimado.
+ */
+public record SliceResult<T>(Slice<T> slice, Long estimatedTotal) {
+
+    public <R> SliceResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new SliceResult<>(slice.map(mapper), estimatedTotal);
+    }
+}
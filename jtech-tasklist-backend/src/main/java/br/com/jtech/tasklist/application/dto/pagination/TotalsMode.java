@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+
+/**
+ * Como o total de registros acompanha uma listagem em fatias (Slice).
+ */
+public enum TotalsMode {
+    /** Nenhum total é calculado; apenas {@code hasNext}. */
+    NONE,
+    /** Total aproximado a partir das estatísticas do banco, sem COUNT. */
+    ESTIMATE;
+
+    public static TotalsMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        for (TotalsMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new DomainInvalidArgumentException("error.pagination.totals.invalid");
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Operação aplicada de uma só vez a um conjunto de tarefas, selecionadas
+ * por uma lista de IDs ou por um filtro (nunca pelos dois).
+ *
+ * @param ids IDs das tarefas, ou nulo quando a seleção é por filtro
+ * @param filter critérios de seleção, ou nulo quando a seleção é por IDs
+ * @param operation operação a ser aplicada
+ * @param targetStatus novo status, obrigatório para {@link BulkTaskOperation#SET_STATUS}
+ */
+public record BulkTaskCommand(
+        List<String> ids,
+        TaskFilter filter,
+        BulkTaskOperation operation,
+        TaskStatus targetStatus
+) {
+
+    public boolean selectsByIds() {
+        return ids != null;
+    }
+}
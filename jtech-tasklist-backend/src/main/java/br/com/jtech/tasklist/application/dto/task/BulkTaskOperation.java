@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+public enum BulkTaskOperation {
+    /** Altera o status das tarefas selecionadas. */
+    SET_STATUS,
+    /** Remove (soft delete) as tarefas selecionadas. */
+    DELETE
+}
@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+/**
+ * @param operation operação aplicada
+ * @param affected quantidade de tarefas efetivamente alteradas
+ */
+public record BulkTaskResult(BulkTaskOperation operation, int affected) {
+}
@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+/**
+ * Alteração parcial de uma tarefa, com a semântica do JSON Merge Patch: campo nulo não é alterado.
+ * Nenhum campo da tarefa pode ser removido, então um {@code null} explícito também o mantém.
+ *
+ * @param id ID da tarefa
+ * @param name novo nome, ou nulo para manter o atual
+ * @param description nova descrição, ou nula para manter a atual
+ * @param status novo status, ou nulo para manter o atual
+ * @param expectedVersion versão lida pelo cliente (If-Match); nula altera qualquer que seja a versão atual
+ */
+public record PatchTaskCommand(
+        String id,
+        String name,
+        String description,
+        TaskStatus status,
+        Long expectedVersion
+) {
+
+    /**
+     * Aplica os campos informados sobre a tarefa atual, com as validações do domínio.
+     */
+    public void applyTo(Task task) {
+        if (name != null) {
+            task.setName(name);
+        }
+        if (description != null) {
+            task.setDescription(description);
+        }
+        if (status != null) {
+            task.setStatus(status);
+        }
+    }
+}
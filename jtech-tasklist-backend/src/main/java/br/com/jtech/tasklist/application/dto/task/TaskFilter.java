@@ -0,0 +1,36 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Critérios de seleção de tarefas ativas. Campos nulos não restringem a seleção.
+ *
+ * @param status status das tarefas
+ * @param createdFrom início do período de criação, inclusivo
+ * @param createdTo fim do período de criação, exclusivo
+ */
+public record TaskFilter(TaskStatus status, OffsetDateTime createdFrom, OffsetDateTime createdTo) {
+
+    private static final TaskFilter NONE = new TaskFilter(null, null, null);
+
+    public TaskFilter {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new DomainInvalidArgumentException("error.task.filter.created_range.invalid");
+        }
+    }
+
+    public TaskFilter(TaskStatus status) {
+        this(status, null, null);
+    }
+
+    public static TaskFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return status == null && createdFrom == null && createdTo == null;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+/**
+ * Nome de uma tarefa ativa sugerido para um prefixo digitado.
+ */
+public record TaskNameSuggestion(String id, String name) {}
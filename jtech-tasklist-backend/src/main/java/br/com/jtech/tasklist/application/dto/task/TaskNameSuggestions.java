@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import java.util.List;
+
+/**
+ * Sugestões de nomes para um prefixo, em ordem alfabética.
+ *
+ * @param suggestions nomes de tarefas ativas que começam pelo prefixo
+ * @param exactMatchId ID da tarefa ativa cujo nome é exatamente o prefixo (ignorando maiúsculas),
+ *                     ou {@code null} quando o nome está livre
+ */
+public record TaskNameSuggestions(List<TaskNameSuggestion> suggestions, String exactMatchId) {}
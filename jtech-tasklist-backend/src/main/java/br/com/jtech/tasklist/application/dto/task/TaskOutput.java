@@ -14,11 +14,22 @@ public class TaskOutput extends OutputDto<Task> {
     private String description;
     private TaskStatus status;
     private OffsetDateTime createdAt;
+    private Long version;
 
     public TaskOutput(Task entity) {
         super(entity);
     }
 
+    public TaskOutput(TaskView view) {
+        super();
+        this.id = view.id();
+        this.name = view.name();
+        this.description = view.description();
+        this.status = view.status();
+        this.createdAt = view.createdAt();
+        this.version = view.version();
+    }
+
     @Override
     public OutputDto<Task> fromEntity(Task entity) {
         this.id = entity.getId();
@@ -26,6 +37,7 @@ public class TaskOutput extends OutputDto<Task> {
         this.description = entity.getDescription();
         this.status = entity.getStatus();
         this.createdAt = entity.getCreatedAt();
+        this.version = entity.getVersion();
         return this;
     }
 }
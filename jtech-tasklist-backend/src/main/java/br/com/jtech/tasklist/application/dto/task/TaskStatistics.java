@@ -0,0 +1,26 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Quantidade de tarefas ativas por status.
+ *
+ * @param byStatus quantidade de cada status, incluindo os que não têm tarefas
+ */
+public record TaskStatistics(Map<TaskStatus, Long> byStatus) {
+
+    public TaskStatistics {
+        var complete = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            complete.put(status, byStatus.getOrDefault(status, 0L));
+        }
+        byStatus = complete;
+    }
+
+    public long total() {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
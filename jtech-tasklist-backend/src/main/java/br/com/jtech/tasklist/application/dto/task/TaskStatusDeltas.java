@@ -0,0 +1,53 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Variação na quantidade de tarefas ativas de cada status causada por uma gravação.
+ * Status sem variação não aparecem no mapa.
+ *
+ * @param values variação por status
+ */
+public record TaskStatusDeltas(Map<TaskStatus, Long> values) {
+
+    private static final TaskStatusDeltas NONE = new TaskStatusDeltas(Map.of());
+
+    public TaskStatusDeltas {
+        var nonZero = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        values.forEach((status, delta) -> {
+            if (delta != 0) {
+                nonZero.put(status, delta);
+            }
+        });
+        values = Map.copyOf(nonZero);
+    }
+
+    public static TaskStatusDeltas none() {
+        return NONE;
+    }
+
+    public static TaskStatusDeltas of(TaskStatus status, long delta) {
+        return NONE.plus(status, delta);
+    }
+
+    /**
+     * Tarefas que passaram de um status para outro; não há variação quando os status são iguais.
+     */
+    public static TaskStatusDeltas moved(TaskStatus from, TaskStatus to, long count) {
+        return of(from, -count).plus(to, count);
+    }
+
+    public TaskStatusDeltas plus(TaskStatus status, long delta) {
+        var merged = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        merged.putAll(values);
+        merged.merge(status, delta, Long::sum);
+        return new TaskStatusDeltas(merged);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Versão de uma tarefa ou da listagem de tarefas, obtida sem carregar os dados.
+ * Duas leituras com a mesma versão devolvem o mesmo conteúdo.
+ *
+ * @param tag identificador opaco da versão: a coluna {@code version} da tarefa, ou a revisão da
+ *            listagem, avançada a cada gravação
+ * @param lastModified última alteração conhecida
+ */
+public record TaskVersion(String tag, OffsetDateTime lastModified) {
+
+    // Construtor usado pela expressão "SELECT new" do JPQL, que entrega a versão da tarefa como número
+    public TaskVersion(Long version, OffsetDateTime lastModified) {
+        this(Long.toString(version), lastModified);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Leitura de uma tarefa projetada diretamente pela consulta, sem entidade gerenciada
+ * nem validações do domínio. Usada apenas nos caminhos de consulta.
+ */
+public record TaskView(
+        String id,
+        String name,
+        String description,
+        TaskStatus status,
+        OffsetDateTime createdAt,
+        Long version
+) {
+
+    // Construtor usado pela expressão "SELECT new" do JPQL, que entrega o ID como UUID
+    public TaskView(UUID id, String name, String description, TaskStatus status, OffsetDateTime createdAt, Long version) {
+        this(id.toString(), name, description, status, createdAt, version);
+    }
+}
@@ -20,10 +20,20 @@ public record UpdateTaskCommand(
         String description,
 
         @NotNull(message = "error.task.status.mandatory")
-        TaskStatus status
+        TaskStatus status,
+
+        // Versão lida pelo cliente (If-Match); nula atualiza qualquer que seja a versão atual
+        Long expectedVersion
 ) implements CommandDto<Task> {
+
+    public UpdateTaskCommand(String id, String name, String description, TaskStatus status) {
+        this(id, name, description, status, null);
+    }
+
     @Override
     public Task toEntity() {
-       return new Task(id, name, description, status);
+       var task = new Task(id, name, description, status);
+       task.setVersion(expectedVersion);
+       return task;
     }
 }
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+
+public interface ArchiveEntitiesUseCase {
+    ArchiveResult execute();
+}
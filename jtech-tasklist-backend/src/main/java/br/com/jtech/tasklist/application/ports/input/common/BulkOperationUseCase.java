@@ -0,0 +1,5 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+public interface BulkOperationUseCase<C, O> {
+    O execute(C command);
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.batch.BatchItemResult;
+
+import java.util.List;
+
+public interface CreateEntitiesInBatchUseCase<I, O> {
+    List<BatchItemResult<O>> execute(List<I> commands);
+}
@@ -1,5 +1,12 @@
 package br.com.jtech.tasklist.application.ports.input.common;
 
 public interface DeleteEntityUseCase{
-    void execute (String entityId);
+    default void execute (String entityId) {
+        execute(entityId, null);
+    }
+
+    /**
+     * @param expectedVersion versão lida pelo cliente; nula para remover qualquer que seja a versão atual
+     */
+    void execute (String entityId, Long expectedVersion);
 }
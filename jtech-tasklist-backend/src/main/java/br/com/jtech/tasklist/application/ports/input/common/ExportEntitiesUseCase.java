@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import java.util.function.Consumer;
+
+public interface ExportEntitiesUseCase<O> {
+    /**
+     * Entrega cada registro ao {@code sink} à medida que é lido.
+     *
+     * @return quantidade de registros exportados
+     */
+    long execute(Consumer<O> sink);
+}
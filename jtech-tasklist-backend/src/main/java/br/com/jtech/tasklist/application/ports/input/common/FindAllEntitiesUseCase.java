@@ -1,8 +1,11 @@
 package br.com.jtech.tasklist.application.ports.input.common;
 
+import br.com.jtech.tasklist.application.dto.pagination.SliceResult;
+import br.com.jtech.tasklist.application.dto.pagination.TotalsMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-public interface FindAllEntitiesUseCase<O> {
-    Page<O> execute(Pageable pageable);
+public interface FindAllEntitiesUseCase<O, F> {
+    Page<O> execute(F filter, Pageable pageable);
+    SliceResult<O> execute(F filter, Pageable pageable, TotalsMode totals);
 }
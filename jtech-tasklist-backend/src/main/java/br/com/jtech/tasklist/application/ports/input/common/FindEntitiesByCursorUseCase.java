@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+
+public interface FindEntitiesByCursorUseCase<O, F> {
+    CursorPage<O> execute(F filter, String cursor, int size);
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+
+import java.util.Iterator;
+
+public interface ImportEntitiesUseCase<I> {
+    /**
+     * Consome a origem sob demanda, sem carregá-la inteira em memória.
+     */
+    ImportResult execute(Iterator<I> source);
+}
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.OutputDto;
+
+public interface PatchEntityUseCase<C, O extends OutputDto<?>> {
+    O execute(C command);
+}
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.ports.input.common;
+
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+
+public interface SearchEntitiesUseCase<O> {
+    CursorPage<O> execute(String query, String cursor, int size);
+}
@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+
+/**
+ * Contadores de tarefas ativas por status, mantidos a cada gravação para que as
+ * estatísticas não dependam de uma contagem sobre a tabela de tarefas.
+ */
+public interface TaskCounterGateway {
+
+    /**
+     * Aplica as variações aos contadores e avança a revisão da listagem, mesmo sem variações.
+     * Deve ser chamado dentro da mesma {@link UnitOfWork} que grava as tarefas, para que
+     * contadores, revisão e tarefas sejam confirmados juntos.
+     */
+    void apply(TaskStatusDeltas deltas);
+
+    /**
+     * Versão atual da listagem, lida do banco: muda a cada gravação confirmada por qualquer instância.
+     */
+    TaskVersion listVersion();
+
+    /**
+     * Quantidades atuais, lidas da memória sem acessar o banco.
+     */
+    TaskStatistics current();
+
+    /**
+     * Recalcula os contadores a partir das tarefas ativas, corrigindo qualquer divergência.
+     * Uma correção também avança a revisão da listagem.
+     *
+     * @return soma das diferenças corrigidas, em módulo
+     */
+    long reconcile();
+}
@@ -0,0 +1,51 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Índice dos nomes das tarefas ativas, consultado a cada tecla digitada nos formulários
+ * sem acessar o banco. Os casos de uso o mantêm atualizado depois de cada gravação.
+ */
+public interface TaskNameIndex {
+
+    /**
+     * Inclui a tarefa no índice ou substitui o nome já indexado para o mesmo ID.
+     */
+    void put(String id, String name);
+
+    void remove(String id);
+
+    void removeAll(Collection<String> ids);
+
+    /**
+     * Recarrega o índice a partir das tarefas ativas do banco. Usado quando uma operação
+     * altera tarefas sem informar quais (carga em massa, remoção por filtro).
+     */
+    void rebuild();
+
+    /**
+     * Nomes que começam pelo prefixo, ignorando maiúsculas, em ordem alfabética.
+     */
+    List<TaskNameSuggestion> suggest(String prefix, int limit);
+
+    /**
+     * ID da tarefa ativa com exatamente este nome, ignorando maiúsculas.
+     */
+    Optional<String> findIdByName(String name);
+
+    /**
+     * Resposta aproximada, sem acessar o banco, se alguma tarefa ativa usa o nome (ignorando maiúsculas).
+     * {@code false} é definitivo; {@code true} precisa ser confirmado no banco.
+     */
+    boolean mightContain(String name);
+
+    /**
+     * Informa o resultado da confirmação no banco de um nome para o qual {@link #mightContain(String)}
+     * respondeu {@code true}, para medir a taxa de falsos positivos.
+     */
+    void recordProbe(boolean found);
+}
@@ -1,9 +1,66 @@
 package br.com.jtech.tasklist.application.ports.output;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.KeysetCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
-public interface TaskPersistenceGateway extends PersistenteGateway<Task>{
+public interface TaskPersistenceGateway extends PersistenteGateway<Task>, TaskSearchGateway {
     Optional<Task> findByName(String name);
+    Optional<TaskView> findViewById(String id);
+    /**
+     * Lê a tarefa ativa direto do banco, sem caches, como base de uma alteração parcial.
+     */
+    Optional<Task> findCurrentById(String id);
+    Optional<TaskVersion> findVersionById(String id);
+    Optional<TaskStatus> lockStatus(String id);
+    List<TaskStatus> lockStatuses(Collection<String> ids);
+    Page<TaskView> findAllViews(TaskFilter filter, Pageable pageable);
+    Slice<TaskView> findAllViewsSlice(TaskFilter filter, Pageable pageable);
+    CursorPage<TaskView> findViewsAfter(TaskFilter filter, KeysetCursor cursor, int size);
+    long streamAllViews(Consumer<TaskView> consumer);
+    Set<String> findExistingNames(Collection<String> lowerCaseNames);
+    BulkLoadResult bulkLoad(Iterator<Task> tasks);
+    long estimateCount();
+    /**
+     * Atualiza uma tarefa ativa. Com {@link Task#getVersion()} informada, só altera a linha que ainda
+     * estiver nessa versão.
+     *
+     * @return a tarefa atualizada, ou vazio quando não existe tarefa ativa com o ID e a versão
+     */
+    Optional<Task> update(Task task);
+    /**
+     * Grava apenas os campos que diferem da tarefa persistida, desde que ela ainda esteja na versão
+     * {@link Task#getVersion()}. Uma gravação concorrente detectada só no {@code UPDATE} lança a exceção
+     * de bloqueio otimista da persistência e desfaz a transação.
+     *
+     * @return a tarefa alterada, ou vazio quando não existe tarefa ativa com o ID e a versão
+     */
+    Optional<Task> patch(Task task);
+    /**
+     * Soft delete da tarefa ativa que ainda estiver na versão informada.
+     *
+     * @return quantidade de tarefas removidas (0 quando não está ativa ou mudou de versão)
+     */
+    int delete(String id, long expectedVersion);
+    int updateStatusByIds(Collection<String> ids, TaskStatus target);
+    int updateStatusMatching(TaskFilter filter, TaskStatus target);
+    int deleteByIds(Collection<String> ids);
+    int deleteMatching(TaskFilter filter);
+    int archiveDeletedBefore(OffsetDateTime cutoff, int limit);
 }
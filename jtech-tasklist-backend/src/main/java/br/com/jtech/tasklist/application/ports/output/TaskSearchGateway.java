@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+
+public interface TaskSearchGateway {
+    /**
+     * Busca tarefas ativas cujo nome ou descrição contenham todos os termos da consulta,
+     * da mais para a menos relevante.
+     *
+     * @param query termos informados pelo usuário
+     * @param after posição da página anterior, ou {@code null} para a primeira página
+     * @param size quantidade máxima de tarefas na página
+     */
+    CursorPage<TaskView> search(String query, SearchCursor after, int size);
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import java.util.function.Supplier;
+
+/**
+ * Executa um conjunto de gravações como uma unidade: ou todas são confirmadas, ou nenhuma.
+ * Permite aos casos de uso agrupar escritas em gateways diferentes sem depender do mecanismo de transação.
+ */
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+}
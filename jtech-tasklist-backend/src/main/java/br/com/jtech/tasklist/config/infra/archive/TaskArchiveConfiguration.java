@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.config.infra.archive;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(TaskArchiveProperties.class)
+public class TaskArchiveConfiguration {
+}
@@ -0,0 +1,31 @@
+package br.com.jtech.tasklist.config.infra.archive;
+
+import br.com.jtech.tasklist.application.dto.batch.ArchivePolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do arquivamento de tarefas removidas ({@code tasks.archive.*}).
+ *
+ * @param enabled habilita a execução agendada; a execução sob demanda continua disponível
+ * @param cron agenda da execução automática
+ * @param retention tempo mínimo desde a remoção para que a tarefa seja arquivada
+ * @param chunkSize tarefas movidas por transação
+ * @param maxChunks lotes por execução
+ * @param pause intervalo entre lotes
+ */
+@ConfigurationProperties(prefix = "tasks.archive")
+public record TaskArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 */15 * * * *") String cron,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("100") int maxChunks,
+        @DefaultValue("200ms") Duration pause
+) {
+    public ArchivePolicy toPolicy() {
+        return new ArchivePolicy(retention, chunkSize, maxChunks, pause);
+    }
+}
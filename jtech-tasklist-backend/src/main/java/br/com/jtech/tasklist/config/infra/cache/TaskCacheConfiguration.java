@@ -0,0 +1,70 @@
+package br.com.jtech.tasklist.config.infra.cache;
+
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
+@Configuration
+@EnableConfigurationProperties(TaskCacheProperties.class)
+public class TaskCacheConfiguration {
+
+    /**
+     * Regiões do cache de segundo nível em um Caffeine local. Um provedor próprio por contexto
+     * evita que o registro global do JCache compartilhe o gerenciador entre contextos da mesma JVM.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(TaskCacheProperties properties, MeterRegistry meterRegistry) {
+        var provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        monitor(cacheManager.createCache(TaskEntity.CACHE_REGION, bounded(properties.entities())), meterRegistry);
+        monitor(cacheManager.createCache(TaskEntity.QUERY_CACHE_REGION, bounded(properties.queries())), meterRegistry);
+        monitor(cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(properties.queries())), meterRegistry);
+        // Os instantes de atualização por tabela não podem expirar antes dos resultados que eles invalidam
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(TaskCacheProperties properties,
+                                                                  CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.enabled());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.statistics());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Uma região sem configuração seria criada sem limite de tamanho; melhor falhar na subida
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(TaskCacheProperties.Region region) {
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+        return configuration;
+    }
+
+    private static void monitor(Cache<Object, Object> cache, MeterRegistry meterRegistry) {
+        Gauge.builder("tasks.cache.entries", cache,
+                        c -> c.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize())
+                .tag("region", cache.getName())
+                .description("Itens mantidos na região do cache de segundo nível")
+                .register(meterRegistry);
+    }
+}
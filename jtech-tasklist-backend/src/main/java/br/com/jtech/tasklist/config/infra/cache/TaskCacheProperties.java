@@ -0,0 +1,32 @@
+package br.com.jtech.tasklist.config.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de segundo nível do Hibernate ({@code tasks.cache.*}).
+ *
+ * @param enabled habilita o cache de entidades e de consultas
+ * @param statistics coleta as estatísticas do Hibernate publicadas nas métricas {@code hibernate.*}
+ * @param entities região das tarefas carregadas pela chave primária
+ * @param queries regiões dos resultados de consultas
+ */
+@ConfigurationProperties(prefix = "tasks.cache")
+public record TaskCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean statistics,
+        @DefaultValue Region entities,
+        @DefaultValue Region queries
+) {
+
+    /**
+     * @param maxEntries quantidade máxima de itens mantidos na região
+     * @param timeToLive tempo desde a gravação após o qual o item expira
+     */
+    public record Region(
+            @DefaultValue("10000") long maxEntries,
+            @DefaultValue("10m") Duration timeToLive
+    ) {}
+}
@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.config.infra.cache;
+
+import br.com.jtech.tasklist.adapters.output.cache.CachingTaskPersistenceGateway;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties(TaskGatewayCacheProperties.class)
+@ConditionalOnProperty(prefix = "tasks.gateway-cache", name = "enabled", havingValue = "true")
+public class TaskGatewayCacheConfiguration {
+
+    // Primário: os casos de uso recebem o decorador; quem precisa do banco direto injeta o TaskRepositoryAdapter
+    @Bean
+    @Primary
+    public TaskPersistenceGateway cachingTaskPersistenceGateway(TaskRepositoryAdapter taskRepositoryAdapter,
+                                                                TaskGatewayCacheProperties properties,
+                                                                MeterRegistry meterRegistry) {
+        return new CachingTaskPersistenceGateway(taskRepositoryAdapter, properties.maxEntries(),
+                properties.timeToLive(), meterRegistry);
+    }
+}
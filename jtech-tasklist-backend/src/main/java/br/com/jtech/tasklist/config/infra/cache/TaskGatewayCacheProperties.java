@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config.infra.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de tarefas na porta de persistência ({@code tasks.gateway-cache.*}).
+ *
+ * @param enabled decora o gateway de persistência dos casos de uso com o cache
+ * @param maxEntries quantidade máxima de tarefas mantidas em cada cache (por ID e por nome)
+ * @param timeToLive tempo desde a gravação após o qual a tarefa volta a ser lida do banco
+ */
+@ConfigurationProperties(prefix = "tasks.gateway-cache")
+public record TaskGatewayCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maxEntries,
+        @DefaultValue("1m") Duration timeToLive
+) {}
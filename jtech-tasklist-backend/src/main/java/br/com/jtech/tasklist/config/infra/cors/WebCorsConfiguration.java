@@ -48,6 +48,8 @@ public class WebCorsConfiguration {
             "Accept",
             "Authorization",
             "X-Requested-With",
+            "If-Match",
+            "If-None-Match",
             "Access-Control-Request-Method",
             "Access-Control-Request-Headers"
         ));
@@ -56,12 +58,14 @@ public class WebCorsConfiguration {
         config.setExposedHeaders(Arrays.asList(
             "Access-Control-Allow-Origin",
             "Access-Control-Allow-Credentials",
-            "Authorization"
+            "Authorization",
+            "ETag"
         ));
         
         // Métodos HTTP permitidos
         config.setAllowedMethods(Arrays.asList(
             "GET",
+            "HEAD",
             "POST",
             "PUT",
             "PATCH",
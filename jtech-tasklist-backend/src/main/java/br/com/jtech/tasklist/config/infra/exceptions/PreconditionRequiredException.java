@@ -0,0 +1,23 @@
+/*
+ *  @(#)PreconditionRequiredException.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+package br.com.jtech.tasklist.config.infra.exceptions;
+
+/**
+ * Requisição de escrita sem o cabeçalho condicional ({@code If-Match}) exigido pelo recurso.
+ * Respondida com 428 Precondition Required.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.config.infra.index;
+
+import br.com.jtech.tasklist.adapters.output.index.CountingBloomFilter;
+import br.com.jtech.tasklist.adapters.output.index.InMemoryTaskNameIndex;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters.TaskRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TaskNameIndexProperties.class)
+public class TaskNameIndexConfiguration {
+
+    @Bean
+    public InMemoryTaskNameIndex taskNameIndex(TaskRepositoryAdapter taskRepositoryAdapter,
+                                               TaskNameIndexProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new InMemoryTaskNameIndex(taskRepositoryAdapter, properties.maxEntries(),
+                () -> new CountingBloomFilter(properties.filterExpectedNames(), properties.filterFalsePositiveRate()),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.config.infra.index;
+
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Carrega o índice de nomes antes de a aplicação ser considerada pronta e o recarrega
+ * periodicamente, trazendo as alterações feitas por outras instâncias.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskNameIndexLoader {
+
+    private final TaskNameIndex taskNameIndex;
+    private final TaskNameIndexProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        taskNameIndex.rebuild();
+        var interval = properties.refreshInterval();
+        taskScheduler.scheduleWithFixedDelay(this::refresh, Instant.now().plus(interval), interval);
+    }
+
+    private void refresh() {
+        try {
+            taskNameIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.error("::: Task name index refresh failed.", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.config.infra.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do índice de nomes usado nas sugestões ({@code tasks.name-index.*}).
+ *
+ * @param maxEntries quantidade máxima de nomes mantidos em memória
+ * @param refreshInterval intervalo entre recargas completas a partir do banco
+ * @param filterExpectedNames quantidade de nomes prevista no filtro de existência, que não é limitado por {@code maxEntries}
+ * @param filterFalsePositiveRate probabilidade de o filtro não descartar um nome ausente, com a quantidade prevista
+ */
+@ConfigurationProperties(prefix = "tasks.name-index")
+public record TaskNameIndexProperties(
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("1000000") long filterExpectedNames,
+        @DefaultValue("0.01") double filterFalsePositiveRate
+) {}
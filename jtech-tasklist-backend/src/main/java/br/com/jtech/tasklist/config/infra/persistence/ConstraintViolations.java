@@ -0,0 +1,32 @@
+package br.com.jtech.tasklist.config.infra.persistence;
+
+import lombok.experimental.UtilityClass;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifica qual restrição do banco causou uma {@link DataIntegrityViolationException},
+ * permitindo traduzi-la em uma exceção de domínio.
+ */
+@UtilityClass
+public class ConstraintViolations {
+
+    public static final String TASKS_ACTIVE_NAME = "ux_tasks_active_name";
+
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        var expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected)) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.config.infra.persistence;
+
+/**
+ * Banco de dados efetivamente conectado. Permite que os adaptadores de persistência
+ * usem recursos específicos do PostgreSQL e mantenham um caminho portável para o H2.
+ */
+public enum DatabaseVendor {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static DatabaseVendor fromProductName(String productName) {
+        if (productName == null) {
+            return OTHER;
+        }
+        var name = productName.toLowerCase();
+        if (name.contains("postgresql")) {
+            return POSTGRESQL;
+        }
+        if (name.contains("h2")) {
+            return H2;
+        }
+        return OTHER;
+    }
+
+    public boolean isPostgres() {
+        return this == POSTGRESQL;
+    }
+}
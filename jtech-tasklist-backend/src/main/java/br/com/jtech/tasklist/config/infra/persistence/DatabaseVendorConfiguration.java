@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.config.infra.persistence;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Resolve uma única vez, a partir dos metadados da conexão, qual banco está em uso.
+ */
+@Configuration
+public class DatabaseVendorConfiguration {
+
+    @Bean
+    public DatabaseVendor databaseVendor(DataSource dataSource) throws MetaDataAccessException {
+        String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        return DatabaseVendor.fromProductName(productName);
+    }
+}
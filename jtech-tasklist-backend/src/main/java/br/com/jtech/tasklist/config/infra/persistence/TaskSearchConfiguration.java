@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.config.infra.persistence;
+
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.jpa.TaskJpaRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.search.InMemoryTaskSearchRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.search.PostgresTaskSearchRepository;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.search.TaskSearchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+/**
+ * Escolhe a implementação da busca textual conforme o banco conectado.
+ */
+@Configuration
+public class TaskSearchConfiguration {
+
+    @Bean
+    public TaskSearchRepository taskSearchRepository(DatabaseVendor databaseVendor,
+                                                     EntityManagerFactory entityManagerFactory,
+                                                     TaskJpaRepository taskJpaRepository) {
+        if (databaseVendor.isPostgres()) {
+            return new PostgresTaskSearchRepository(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        }
+        return new InMemoryTaskSearchRepository(taskJpaRepository);
+    }
+}
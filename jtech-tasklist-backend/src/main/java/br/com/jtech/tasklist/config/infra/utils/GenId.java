@@ -14,8 +14,6 @@ package br.com.jtech.tasklist.config.infra.utils;
 
 import lombok.experimental.UtilityClass;
 
-import java.util.UUID;
-
 /**
 * class GenId
 *
@@ -25,10 +23,10 @@ import java.util.UUID;
 public class GenId {
 
     public static String newId() {
-        return UUID.randomUUID().toString();
+        return UuidV7.next().toString();
     }
 
     public static String newId(String id) {
-        return (id != null && !id.isEmpty()) ? id : UUID.randomUUID().toString();
+        return (id != null && !id.isEmpty()) ? id : newId();
     }
 }
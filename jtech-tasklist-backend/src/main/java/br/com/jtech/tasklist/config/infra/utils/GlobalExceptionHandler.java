@@ -14,8 +14,11 @@ package br.com.jtech.tasklist.config.infra.utils;
 
 
 import br.com.jtech.tasklist.config.infra.exceptions.*;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -74,6 +77,39 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(error);
     }
 
+    @ExceptionHandler(DomainResourceVersionConflict.class)
+    public ResponseEntity<ApiError> handleVersionConflict(DomainResourceVersionConflict ex) {
+        ApiError error = new ApiError(HttpStatus.PRECONDITION_FAILED);
+        error.setMessage("Resource was modified");
+        error.setTimestamp(LocalDateTime.now());
+        error.setDebugMessage(ex.getLocalizedMessage());
+        return buildResponseEntity(error);
+    }
+
+    // Conflito detectado pelo @Version no UPDATE, depois que a transação que o causou já foi desfeita
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return handleVersionConflict(new DomainResourceVersionConflict("error.task.version.conflict"));
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ApiError> handlePreconditionRequired(PreconditionRequiredException ex) {
+        ApiError error = new ApiError(HttpStatus.PRECONDITION_REQUIRED);
+        error.setMessage("Precondition required");
+        error.setTimestamp(LocalDateTime.now());
+        error.setDebugMessage(ex.getLocalizedMessage());
+        return buildResponseEntity(error);
+    }
+
+    @ExceptionHandler(DomainInvalidArgumentException.class)
+    public ResponseEntity<ApiError> handleInvalidArgument(DomainInvalidArgumentException ex) {
+        ApiError error = new ApiError(HttpStatus.BAD_REQUEST);
+        error.setMessage("Invalid argument");
+        error.setTimestamp(LocalDateTime.now());
+        error.setDebugMessage(ex.getLocalizedMessage());
+        return buildResponseEntity(error);
+    }
+
     private List<ApiSubError> subErrors(MethodArgumentNotValidException ex) {
         List<ApiSubError> errors = new ArrayList<>();
         for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
@@ -13,7 +13,8 @@ public class MessageSourceConfiguration {
         messageSource.setBasename("messages");
         messageSource.setDefaultEncoding("UTF-8");
         messageSource.setUseCodeAsDefaultMessage(true);
-        messageSource.setCacheSeconds(3600);
+        // Sem cacheSeconds os pacotes ficam em cache para sempre: estão no jar e não mudam em execução,
+        // e a verificação periódica de recarga relia os arquivos no meio das requisições
         return messageSource;
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/*
+*  @(#)UuidV7.java
+*
+*  Copyright (c) J-Tech Solucoes em Informatica.
+*  All Rights Reserved.
+*
+*  This software is the confidential and proprietary information of J-Tech.
+*  ("Confidential Information"). You shall not disclose such Confidential
+*  Information and shall use it only in accordance with the terms of the
+*  license agreement you entered into with J-Tech.
+*
+*/
+package br.com.jtech.tasklist.config.infra.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562): os 48 bits mais significativos são o instante
+ * em milissegundos, o que mantém as inserções no final do índice da chave primária.
+ * <p>
+ * Os 12 bits {@code rand_a} funcionam como contador dentro do mesmo milissegundo, de modo
+ * que os IDs gerados por esta JVM são estritamente crescentes. Instante e contador ficam
+ * em um único {@link AtomicLong} e são avançados por CAS, sem locks. Se o contador
+ * se esgota, o instante avança 1 ms à frente do relógio, como permite a RFC.
+ */
+@UtilityClass
+public class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // (unix millis << 12) | contador do último ID emitido
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        return fromState(advance(System.currentTimeMillis()));
+    }
+
+    static UUID fromState(long state) {
+        long millis = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long msb = (millis << 16) | VERSION_7 | counter;
+        long lsb = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Instante (unix millis) codificado em um UUID versão 7.
+     */
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long advance(long nowMillis) {
+        while (true) {
+            long last = LAST.get();
+            long next = nextState(last, nowMillis);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    // Sem estado: o relógio à frente do último ID reinicia o contador; senão o contador avança
+    static long nextState(long last, long nowMillis) {
+        long candidate = nowMillis << COUNTER_BITS;
+        return candidate > last ? candidate : last + 1;
+    }
+}
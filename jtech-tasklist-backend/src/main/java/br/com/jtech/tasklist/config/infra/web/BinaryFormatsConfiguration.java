@@ -0,0 +1,44 @@
+package br.com.jtech.tasklist.config.infra.web;
+
+import br.com.jtech.tasklist.adapters.input.protobuf.TaskProtobufHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Codificações binárias escolhidas pelo {@code Accept} (e, nas requisições, pelo {@code Content-Type}):
+ * CBOR ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) e Protobuf
+ * ({@code application/x-protobuf}, apenas nas respostas de tarefas).
+ * <p>
+ * Os conversores Jackson usam o mesmo {@link Jackson2ObjectMapperBuilder} do JSON, com as propriedades
+ * {@code spring.jackson.*}, no lugar dos que o Spring MVC monta sozinho. Todos ficam depois do JSON,
+ * que continua sendo a resposta sem {@code Accept} ou com um {@code Accept} que aceita qualquer tipo.
+ */
+@Configuration
+public class BinaryFormatsConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public BinaryFormatsConfiguration(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new TaskProtobufHttpMessageConverter());
+    }
+}
@@ -1,19 +1,58 @@
 package br.com.jtech.tasklist.config.usecases;
 
-import br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.application.core.usecases.ArchiveDeletedTasksUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.BulkTaskOperationUseCaseImpl;
 import br.com.jtech.tasklist.application.core.usecases.CreateTaskUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.CreateTasksInBatchUseCaseImpl;
 import br.com.jtech.tasklist.application.core.usecases.DeleteTaskUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.ExistsTaskByNameUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.ExportTasksUseCaseImpl;
 import br.com.jtech.tasklist.application.core.usecases.FindAllTasksUseCaseImpl;
 import br.com.jtech.tasklist.application.core.usecases.FindTaskByIdUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.FindTaskStatisticsUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.FindTaskVersionUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.FindTasksByCursorUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.FindTasksVersionUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.ImportTasksUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.PatchTaskUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.ReconcileTaskStatisticsUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.SearchTasksUseCaseImpl;
+import br.com.jtech.tasklist.application.core.usecases.SuggestTaskNamesUseCaseImpl;
 import br.com.jtech.tasklist.application.core.usecases.UpdateTaskUseCaseImpl;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskResult;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestions;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
+import br.com.jtech.tasklist.application.ports.input.common.ArchiveEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.BulkOperationUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.CreateEntitiesInBatchUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.CreateEntityUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.DeleteEntityUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ExistsEntityByNameUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ExportEntitiesUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.FindAllEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesVersionUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntitiesByCursorUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.FindEntityByIdUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityStatisticsUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.FindEntityVersionUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ImportEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.PatchEntityUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.ReconcileEntityStatisticsUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.SearchEntitiesUseCase;
+import br.com.jtech.tasklist.application.ports.input.common.SuggestEntityNamesUseCase;
 import br.com.jtech.tasklist.application.ports.input.common.UpdateEntityUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+import br.com.jtech.tasklist.config.infra.archive.TaskArchiveProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,31 +61,104 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class TaskUseCaseConfig {
 
-    private final TaskRepositoryAdapter taskRepositoryAdapter;
+    private final TaskPersistenceGateway taskPersistenceGateway;
+    private final TaskNameIndex taskNameIndex;
+    private final TaskCounterGateway taskCounterGateway;
+    private final UnitOfWork unitOfWork;
 
     @Bean
     public CreateEntityUseCase<CreateTaskCommand, TaskOutput> createTaskUseCase(){
-        return new CreateTaskUseCaseImpl(taskRepositoryAdapter);
+        return new CreateTaskUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
+    }
+
+    @Bean
+    public CreateEntitiesInBatchUseCase<CreateTaskCommand, TaskOutput> createTasksInBatchUseCase(){
+        return new CreateTasksInBatchUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
     }
 
     @Bean
     public UpdateEntityUseCase<UpdateTaskCommand, TaskOutput> updateTaskUseCase(){
-        return new UpdateTaskUseCaseImpl(taskRepositoryAdapter);
+        return new UpdateTaskUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
+    }
+
+    @Bean
+    public PatchEntityUseCase<PatchTaskCommand, TaskOutput> patchTaskUseCase(){
+        return new PatchTaskUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
     }
 
     @Bean
     public FindEntityByIdUseCase<TaskOutput> findEntityByIdUseCase(){
-        return new FindTaskByIdUseCaseImpl(taskRepositoryAdapter);
+        return new FindTaskByIdUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public FindAllEntitiesUseCase<TaskOutput, TaskFilter> findAllEntitiesUseCase(){
+        return new FindAllTasksUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public FindEntitiesByCursorUseCase<TaskOutput, TaskFilter> findEntitiesByCursorUseCase(){
+        return new FindTasksByCursorUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public SearchEntitiesUseCase<TaskOutput> searchTasksUseCase(){
+        return new SearchTasksUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public SuggestEntityNamesUseCase<TaskNameSuggestions> suggestTaskNamesUseCase(){
+        return new SuggestTaskNamesUseCaseImpl(taskNameIndex);
+    }
+
+    @Bean
+    public ExistsEntityByNameUseCase existsTaskByNameUseCase(){
+        return new ExistsTaskByNameUseCaseImpl(taskPersistenceGateway, taskNameIndex);
+    }
+
+    @Bean
+    public FindEntityVersionUseCase<TaskVersion> findTaskVersionUseCase(){
+        return new FindTaskVersionUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public FindEntitiesVersionUseCase<TaskVersion> findTasksVersionUseCase(){
+        return new FindTasksVersionUseCaseImpl(taskCounterGateway);
+    }
+
+    @Bean
+    public FindEntityStatisticsUseCase<TaskStatistics> findTaskStatisticsUseCase(){
+        return new FindTaskStatisticsUseCaseImpl(taskCounterGateway);
+    }
+
+    @Bean
+    public ReconcileEntityStatisticsUseCase reconcileTaskStatisticsUseCase(){
+        return new ReconcileTaskStatisticsUseCaseImpl(taskCounterGateway);
+    }
+
+    @Bean
+    public ExportEntitiesUseCase<TaskOutput> exportTasksUseCase(){
+        return new ExportTasksUseCaseImpl(taskPersistenceGateway);
+    }
+
+    @Bean
+    public ImportEntitiesUseCase<CreateTaskCommand> importTasksUseCase(){
+        return new ImportTasksUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway);
+    }
+
+    @Bean
+    public BulkOperationUseCase<BulkTaskCommand, BulkTaskResult> bulkTaskOperationUseCase(){
+        return new BulkTaskOperationUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
     }
 
     @Bean
-    public FindAllEntitiesUseCase<TaskOutput> findAllEntitiesUseCase(){
-        return new FindAllTasksUseCaseImpl(taskRepositoryAdapter);
+    public ArchiveEntitiesUseCase archiveDeletedTasksUseCase(TaskArchiveProperties properties){
+        return new ArchiveDeletedTasksUseCaseImpl(taskPersistenceGateway, properties.toPolicy());
     }
 
     @Bean
     public DeleteEntityUseCase deleteEntityUseCase(){
-        return new DeleteTaskUseCaseImpl(taskRepositoryAdapter);
+        return new DeleteTaskUseCaseImpl(taskPersistenceGateway, taskNameIndex, taskCounterGateway, unitOfWork);
     }
 }
 
@@ -0,0 +1,2 @@
+-- Suporta a paginação por chave (created_at, id) apenas sobre as tarefas ativas
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id) WHERE deleted = false;
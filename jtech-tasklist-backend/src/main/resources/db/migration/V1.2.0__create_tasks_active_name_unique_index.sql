@@ -0,0 +1,21 @@
+-- A unicidade do nome (sem diferenciar maiúsculas) entre tarefas ativas passa a ser
+-- garantida pelo banco; o índice também atende às buscas por LOWER(name)
+
+-- A verificação anterior (consulta seguida de INSERT) não era atômica, então a base pode ter tarefas
+-- ativas cujos nomes diferem só em maiúsculas, e o índice único não seria criado. Mantém o nome a mais
+-- antiga de cada grupo; as demais recebem o final do próprio ID como sufixo, com o nome cortado para que
+-- o resultado caiba nos 50 caracteres aceitos pela aplicação
+UPDATE tasks t
+SET name = LEFT(t.name, 36) || ' #' || RIGHT(t.id::text, 12),
+    updated_at = CURRENT_TIMESTAMP
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY LOWER(name) ORDER BY created_at, id) AS position
+      FROM tasks
+      WHERE deleted = false) repeated
+WHERE t.id = repeated.id
+  AND repeated.position > 1;
+
+-- Sem CONCURRENTLY (que não roda dentro da transação da migração), a criação bloqueia as gravações em
+-- tasks até terminar; leituras seguem normalmente. Em bases grandes, aplicar fora do horário de pico
+CREATE UNIQUE INDEX ux_tasks_active_name ON tasks (LOWER(name)) WHERE deleted = false;
+
+DROP INDEX IF EXISTS idx_tasks_name;
@@ -0,0 +1,15 @@
+-- Tarefas removidas (soft delete) há mais tempo que a retenção configurada são movidas
+-- para cá, mantendo a tabela tasks e seus índices restritos aos registros vivos
+CREATE TABLE tasks_archive (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Localiza as tarefas removidas sem percorrer as ativas. O índice não inclui updated_at,
+-- que muda a cada escrita, para não impedir atualizações HOT nas tarefas ativas
+CREATE INDEX idx_tasks_deleted_id ON tasks (id) WHERE deleted = true;
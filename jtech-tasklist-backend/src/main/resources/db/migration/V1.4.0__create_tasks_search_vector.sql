@@ -0,0 +1,10 @@
+-- Vetor de busca textual mantido pelo próprio banco a cada escrita. A configuração 'simple'
+-- não aplica stemming nem stopwords de um idioma, pois nomes e descrições misturam idiomas;
+-- o peso A do nome faz com que ele conte mais que a descrição (peso B) na pontuação
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+-- Parcial: tarefas removidas nunca aparecem na busca
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector) WHERE deleted = false;
@@ -0,0 +1,3 @@
+-- Atende à listagem filtrada por status (e período de criação) na mesma ordem da paginação
+-- por chave, permitindo carregar e paginar cada coluna do quadro isoladamente
+CREATE INDEX idx_tasks_status_created_at_id ON tasks (status, created_at, id) WHERE deleted = false;
@@ -0,0 +1,12 @@
+-- Quantidade de tarefas ativas por status, atualizada na mesma transação de cada gravação.
+-- Cada status precisa de uma linha; um novo status exige uma migração que a inclua
+CREATE TABLE task_counters (
+    status VARCHAR(50) PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO task_counters (status, total)
+SELECT s.status, COUNT(t.id)
+FROM (VALUES ('PENDING'), ('IN_PROGRESS'), ('COMPLETED')) AS s (status)
+LEFT JOIN tasks t ON t.status = s.status AND t.deleted = false
+GROUP BY s.status;
@@ -0,0 +1,9 @@
+-- Versão da listagem usada nas requisições condicionais: uma única linha, avançada na mesma transação
+-- das gravações, junto com task_counters. Nenhum índice cobre updated_at, que muda em toda escrita
+CREATE TABLE task_list_revision (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    revision BIGINT NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO task_list_revision (id, revision, changed_at) VALUES (1, 0, CURRENT_TIMESTAMP);
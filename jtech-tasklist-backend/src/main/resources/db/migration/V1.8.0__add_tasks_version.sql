@@ -0,0 +1,3 @@
+-- Versão de cada tarefa para o controle otimista de concorrência (ETag / If-Match).
+-- Com valor padrão constante o PostgreSQL adiciona a coluna sem reescrever a tabela
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -4,16 +4,35 @@ import br.com.jtech.tasklist.adapters.BaseE2ETest;
 import br.com.jtech.tasklist.adapters.input.dto.CreateTaskRequest;
 import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
 import br.com.jtech.tasklist.adapters.input.dto.UpdateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protobuf.TaskProtobufCodec;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.google.protobuf.CodedInputStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,6 +45,9 @@ class TaskControllerE2ETest extends BaseE2ETest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Should create task successfully and return 201 Created")
     void shouldCreateTaskSuccessfully() throws Exception {
@@ -98,6 +120,7 @@ class TaskControllerE2ETest extends BaseE2ETest {
 
         // When & Then
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -105,7 +128,9 @@ class TaskControllerE2ETest extends BaseE2ETest {
                 .andExpect(jsonPath("$.name").value("Updated Task"))
                 .andExpect(jsonPath("$.description").value("Updated description"))
                 .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
-                .andExpect(jsonPath("$.createdAt").isNotEmpty());
+                .andExpect(jsonPath("$.createdAt").isNotEmpty())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
     }
 
     @Test
@@ -123,6 +148,7 @@ class TaskControllerE2ETest extends BaseE2ETest {
 
         // When & Then
         mockMvc.perform(delete("/api/v1/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
     }
@@ -280,6 +306,33 @@ class TaskControllerE2ETest extends BaseE2ETest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    @DisplayName("Should prevent duplicate name differing only by case when renaming a task")
+    void shouldPreventCaseInsensitiveDuplicateNameOnUpdate() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateTaskRequest("Case Rename Target", "Target", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        MvcResult other = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateTaskRequest("Case Rename Source", "Source", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String otherId = objectMapper.readTree(other.getResponse().getContentAsString()).get("id").asText();
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/tasks/{id}", otherId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UpdateTaskRequest("CASE RENAME TARGET", "Source", TaskStatus.PENDING))))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("Should update task status from PENDING to IN_PROGRESS to COMPLETED")
     void shouldUpdateTaskStatusThroughLifecycle() throws Exception {
@@ -306,6 +359,7 @@ class TaskControllerE2ETest extends BaseE2ETest {
         );
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateToInProgress)))
                 .andExpect(status().isOk())
@@ -319,6 +373,7 @@ class TaskControllerE2ETest extends BaseE2ETest {
         );
 
         mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateToCompleted)))
                 .andExpect(status().isOk())
@@ -340,8 +395,10 @@ class TaskControllerE2ETest extends BaseE2ETest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.totalElements").exists())
                 .andExpect(jsonPath("$.totalPages").exists())
-                .andExpect(jsonPath("$.number").exists())
-                .andExpect(jsonPath("$.size").exists());
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").exists())
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
     }
 
     @Test
@@ -367,7 +424,7 @@ class TaskControllerE2ETest extends BaseE2ETest {
                 .param("size", "5")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.number").value(1))
+                .andExpect(jsonPath("$.page").value(1))
                 .andExpect(jsonPath("$.size").value(5))
                 .andExpect(jsonPath("$.content").isArray());
     }
@@ -395,4 +452,730 @@ class TaskControllerE2ETest extends BaseE2ETest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("Should walk through tasks using keyset cursor pagination")
+    void shouldWalkThroughTasksUsingCursorPagination() throws Exception {
+        // Given - the creation period keeps tasks created by other tests out of the pages
+        String createdFrom = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS).toString();
+        List<String> createdIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            CreateTaskRequest request = new CreateTaskRequest("Cursor Task " + i, "Cursor description", TaskStatus.PENDING);
+            MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            createdIds.add(objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText());
+        }
+
+        // When - First page
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks")
+                .param("cursor", "")
+                .param("size", "2")
+                .param("createdFrom", createdFrom))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+
+        JsonNode firstBody = objectMapper.readTree(firstPage.getResponse().getContentAsString());
+        String next = firstBody.get("next").asText();
+        List<String> firstPageIds = List.of(
+                firstBody.get("content").get(0).get("id").asText(),
+                firstBody.get("content").get(1).get("id").asText());
+
+        // Then - Next page holds only the task after the last one of the first page
+        MvcResult secondPage = mockMvc.perform(get("/api/v1/tasks")
+                .param("cursor", next)
+                .param("size", "2")
+                .param("createdFrom", createdFrom))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist())
+                .andReturn();
+
+        String secondPageId = objectMapper.readTree(secondPage.getResponse().getContentAsString())
+                .get("content").get(0).get("id").asText();
+        assertThat(firstPageIds).doesNotContain(secondPageId);
+        assertThat(firstPageIds).containsExactly(createdIds.get(0), createdIds.get(1));
+        assertThat(secondPageId).isEqualTo(createdIds.get(2));
+    }
+
+    @Test
+    @DisplayName("Should filter cursor pages by status and creation period")
+    void shouldFilterCursorPagesByStatusAndCreationPeriod() throws Exception {
+        // Given
+        String createdFrom = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1).toString();
+        for (TaskStatus status : List.of(TaskStatus.COMPLETED, TaskStatus.PENDING, TaskStatus.COMPLETED)) {
+            CreateTaskRequest request = new CreateTaskRequest("Filter Task " + UUID.randomUUID(), "Filtered", status);
+            mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("cursor", "")
+                .param("size", "10")
+                .param("status", "COMPLETED")
+                .param("createdFrom", createdFrom))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[*].status", everyItem(is("COMPLETED"))));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when creation period is empty")
+    void shouldReturnBadRequestWhenCreationPeriodIsEmpty() throws Exception {
+        String instant = OffsetDateTime.now(ZoneOffset.UTC).toString();
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("createdFrom", instant)
+                .param("createdTo", instant))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is invalid")
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("cursor", "invalid-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should list tasks as a slice with estimated total")
+    void shouldListTasksAsSliceWithEstimatedTotal() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("totals", "estimate")
+                .param("page", "0")
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.hasNext").isBoolean())
+                .andExpect(jsonPath("$.estimatedTotal").isNumber())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should list tasks as a slice without totals")
+    void shouldListTasksAsSliceWithoutTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("totals", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").isBoolean())
+                .andExpect(jsonPath("$.estimatedTotal").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when totals mode is invalid")
+    void shouldReturnBadRequestWhenTotalsModeIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("totals", "exact"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should create tasks in batch and report per-item results")
+    void shouldCreateTasksInBatchWithPerItemResults() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateTaskRequest("Batch Existing", "Already stored", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        var batch = Map.of("tasks", List.of(
+                new CreateTaskRequest("Batch One", "First", TaskStatus.PENDING),
+                new CreateTaskRequest("batch existing", "Conflicts with stored task", TaskStatus.PENDING),
+                new CreateTaskRequest("Batch Two", "Second", TaskStatus.COMPLETED),
+                new CreateTaskRequest("BATCH ONE", "Repeated in batch", TaskStatus.PENDING)
+        ));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].task.id").isNotEmpty())
+                .andExpect(jsonPath("$.items[1].status").value("ALREADY_EXISTS"))
+                .andExpect(jsonPath("$.items[2].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[3].status").value("DUPLICATED_IN_BATCH"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch item is invalid")
+    void shouldReturnBadRequestWhenBatchItemIsInvalid() throws Exception {
+        var batch = Map.of("tasks", List.of(
+                new CreateTaskRequest("", "Missing name", TaskStatus.PENDING)
+        ));
+
+        mockMvc.perform(post("/api/v1/tasks:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should move tasks to COMPLETED and delete them by filter with bulk operations")
+    void shouldApplyBulkStatusChangeAndDelete() throws Exception {
+        // Given
+        MvcResult first = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateTaskRequest("Bulk Task 1", "Bulk", TaskStatus.IN_PROGRESS))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        MvcResult second = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateTaskRequest("Bulk Task 2", "Bulk", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String firstId = objectMapper.readTree(first.getResponse().getContentAsString()).get("id").asText();
+        String secondId = objectMapper.readTree(second.getResponse().getContentAsString()).get("id").asText();
+
+        // When & Then - status change by ids
+        mockMvc.perform(patch("/api/v1/tasks:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "ids", List.of(firstId, secondId),
+                        "operation", "SET_STATUS",
+                        "targetStatus", "COMPLETED"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.operation").value("SET_STATUS"))
+                .andExpect(jsonPath("$.affected").value(2));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", secondId))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        // When & Then - delete by filter
+        mockMvc.perform(patch("/api/v1/tasks:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "filter", Map.of("status", "COMPLETED"),
+                        "operation", "DELETE"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").isNumber());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", firstId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when bulk operation has no selection")
+    void shouldReturnBadRequestWhenBulkOperationHasNoSelection() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("operation", "DELETE"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream active tasks as NDJSON")
+    void shouldStreamActiveTasksAsNdjson() throws Exception {
+        String name = "Export Ndjson " + System.nanoTime();
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Exported", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/tasks/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\""))
+                .andReturn();
+
+        List<TaskResponse> exported = result.getResponse().getContentAsString().lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, TaskResponse.class);
+                    } catch (Exception e) {
+                        throw new AssertionError("Invalid NDJSON line: " + line, e);
+                    }
+                })
+                .toList();
+        assertThat(exported).extracting(TaskResponse::name).contains(name);
+    }
+
+    @Test
+    @DisplayName("Should stream active tasks as CSV with quoted fields")
+    void shouldStreamActiveTasksAsCsv() throws Exception {
+        String name = "Export, Csv " + System.nanoTime();
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Says \"hi\"", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).startsWith("id,name,description,status,createdAt\r\n");
+        assertThat(body).contains(",\"" + name + "\",\"Says \"\"hi\"\"\",PENDING,");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown export format")
+    void shouldReturnBadRequestForUnknownExportFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON through COPY and skip names already in use")
+    void shouldImportNdjsonThroughCopy() throws Exception {
+        String suffix = " " + System.nanoTime();
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest("Copy Existing" + suffix, "Stored", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        String body = String.join("\n",
+                objectMapper.writeValueAsString(new CreateTaskRequest("Copy One" + suffix, "First, with comma", TaskStatus.PENDING)),
+                objectMapper.writeValueAsString(new CreateTaskRequest("copy one" + suffix, "Repeated", TaskStatus.PENDING)),
+                objectMapper.writeValueAsString(new CreateTaskRequest("COPY EXISTING" + suffix, "Clash", TaskStatus.PENDING)),
+                objectMapper.writeValueAsString(new CreateTaskRequest("Copy Two" + suffix, "Says \"hi\"", TaskStatus.COMPLETED)),
+                "");
+
+        mockMvc.perform(post("/api/v1/tasks:import").param("format", "ndjson")
+                .contentType("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.duplicatedInInput").value(1))
+                .andExpect(jsonPath("$.alreadyExisting").value(1))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        // The imported name is now taken by an active task
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest("Copy Two" + suffix, "Again", TaskStatus.PENDING))))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should import CSV and count invalid rows as rejected")
+    void shouldImportCsvAndCountRejectedRows() throws Exception {
+        String suffix = " " + System.nanoTime();
+        String body = "id,name,description,status\r\n"
+                + ",\"Csv One" + suffix + "\",\"Multi\nline\",PENDING\r\n"
+                + ",\"\",\"Blank name\",PENDING\r\n"
+                + ",\"Csv Two" + suffix + "\",Plain,IN_PROGRESS\r\n";
+
+        mockMvc.perform(post("/api/v1/tasks:import").param("format", "csv")
+                .contentType("text/csv")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 and import nothing when a record cannot be read")
+    void shouldRejectMalformedImport() throws Exception {
+        String name = "Malformed Import " + System.nanoTime();
+        String body = objectMapper.writeValueAsString(new CreateTaskRequest(name, "Valid", TaskStatus.PENDING))
+                + "\n{not json\n";
+
+        mockMvc.perform(post("/api/v1/tasks:import").param("format", "ndjson")
+                .contentType("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isBadRequest());
+
+        // The valid first record was rolled back together with the rest of the import
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Valid", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should archive tasks deleted before the retention on demand")
+    void shouldArchiveDeletedTasksOnDemand() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest("Archive E2E " + System.nanoTime(), "Old", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readValue(created.getResponse().getContentAsString(), TaskResponse.class).id();
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS)), UUID.fromString(taskId));
+
+        mockMvc.perform(post("/api/v1/admin/tasks:archive"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archived").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.completed").value(true));
+
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks_archive WHERE id = ?", Integer.class, UUID.fromString(taskId));
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, UUID.fromString(taskId));
+        assertThat(archived).isOne();
+        assertThat(remaining).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the removed copy when the task id is already in the archive")
+    void shouldOverwriteArchivedCopyWithSameId() throws Exception {
+        String name = "Archive again " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Latest", TaskStatus.COMPLETED))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        UUID taskId = UUID.fromString(objectMapper.readValue(created.getResponse().getContentAsString(), TaskResponse.class).id());
+        jdbcTemplate.update("INSERT INTO tasks_archive (id, name, description, status) VALUES (?, ?, 'Stale', 'PENDING')",
+                taskId, name);
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS)), taskId);
+
+        mockMvc.perform(post("/api/v1/admin/tasks:archive"))
+                .andExpect(status().isOk());
+
+        Map<String, Object> archived = jdbcTemplate.queryForMap(
+                "SELECT description, status FROM tasks_archive WHERE id = ?", taskId);
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, taskId);
+        assertThat(archived).containsEntry("description", "Latest").containsEntry("status", "COMPLETED");
+        assertThat(remaining).isZero();
+    }
+
+    @Test
+    @DisplayName("Should search tasks by words with ranked keyset pagination")
+    void shouldSearchTasksWithRankedKeysetPagination() throws Exception {
+        String word = "kappa" + System.nanoTime();
+        for (CreateTaskRequest request : List.of(
+                new CreateTaskRequest("Search desc " + System.nanoTime(), "Talks about " + word, TaskStatus.PENDING),
+                new CreateTaskRequest("Search " + word, "Name match", TaskStatus.PENDING),
+                new CreateTaskRequest("Search other " + System.nanoTime(), "Unrelated", TaskStatus.PENDING))) {
+            mockMvc.perform(post("/api/v1/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/search").param("q", word).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Search " + word))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn();
+        String next = objectMapper.readTree(first.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", word).param("cursor", next).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].description").value("Talks about " + word))
+                .andExpect(jsonPath("$.next").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when search query is blank")
+    void shouldReturnBadRequestWhenSearchQueryIsBlank() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should suggest names by prefix and report the task already using the name")
+    void shouldSuggestNamesByPrefix() throws Exception {
+        String prefix = "Typeahead " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateTaskRequest(prefix + " alpha", "Suggested", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", prefix.toLowerCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions.length()").value(1))
+                .andExpect(jsonPath("$.suggestions[0].id").value(taskId))
+                .andExpect(jsonPath("$.suggestions[0].name").value(prefix + " alpha"))
+                .andExpect(jsonPath("$.exactMatchId").isEmpty());
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", prefix.toUpperCase() + " ALPHA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exactMatchId").value(taskId));
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", prefix))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when suggestion prefix is blank")
+    void shouldReturnBadRequestWhenSuggestionPrefixIsBlank() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/suggest").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should report task counts per status from the maintained counters")
+    void shouldReportTaskCountsPerStatus() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/tasks/stats:reconcile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.corrected").isNumber());
+        MvcResult before = mockMvc.perform(get("/api/v1/tasks/stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+        var beforeJson = objectMapper.readTree(before.getResponse().getContentAsString());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateTaskRequest("Stats Task " + System.nanoTime(), "Counted", TaskStatus.COMPLETED))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(beforeJson.get("total").asLong() + 1))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value(beforeJson.path("byStatus").get("COMPLETED").asLong() + 1))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(beforeJson.path("byStatus").get("PENDING").asLong()));
+    }
+
+    @Test
+    @DisplayName("Should answer HEAD name checks with 200 for names in use and 404 for free names")
+    void shouldCheckNameExistenceWithHead() throws Exception {
+        String name = "Head check " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Checked", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        mockMvc.perform(head("/api/v1/tasks").param("name", name.toUpperCase()))
+                .andExpect(status().isOk());
+        mockMvc.perform(head("/api/v1/tasks").param("name", name + " free"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(head("/api/v1/tasks").param("name", name))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged task and 200 with a new ETag after an update")
+    void shouldRevalidateTaskWithETag() throws Exception {
+        String name = "ETag task " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Versioned", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/" + taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tasks/" + taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/v1/tasks/" + taskId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskRequest(name, "Changed", TaskStatus.COMPLETED))))
+                .andExpect(status().isOk());
+
+        MvcResult changed = mockMvc.perform(get("/api/v1/tasks/" + taskId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Changed"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andReturn();
+        assertThat(changed.getResponse().getHeaders(HttpHeaders.ETAG)).containsExactly("\"1\"");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged task list and 200 after a task is created")
+    void shouldRevalidateTaskListWithETag() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateTaskRequest("ETag list " + System.nanoTime(), "Listed", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        String etag = mockMvc.perform(get("/api/v1/tasks").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/tasks").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/tasks").param("totals", "none").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateTaskRequest("ETag list " + System.nanoTime(), "Listed", TaskStatus.PENDING))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/tasks").param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    @DisplayName("Should reject writes without If-Match and writes based on a stale version")
+    void shouldRequireCurrentVersionForWrites() throws Exception {
+        String name = "Versioned write " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "First", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+        String firstEdit = objectMapper.writeValueAsString(new UpdateTaskRequest(name, "Edited by A", TaskStatus.PENDING));
+        String secondEdit = objectMapper.writeValueAsString(new UpdateTaskRequest(name, "Edited by B", TaskStatus.PENDING));
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(firstEdit))
+                .andExpect(status().isPreconditionRequired());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isPreconditionRequired());
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(firstEdit))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        // The second client still holds version 0 and must not overwrite the first edit
+        mockMvc.perform(put("/api/v1/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(secondEdit))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Edited by A"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", taskId).header(HttpHeaders.IF_MATCH, "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should change only the fields sent in a merge patch")
+    void shouldPatchOnlySentFields() throws Exception {
+        String name = "Patched task " + System.nanoTime();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Kept description", TaskStatus.PENDING))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isPreconditionRequired());
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name").value(name))
+                .andExpect(jsonPath("$.description").value("Kept description"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":\"Stale edit\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\":\"\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Kept description"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("Should encode task responses as CBOR or Protobuf when the Accept header asks for it")
+    void shouldNegotiateBinaryEncodings() throws Exception {
+        String name = "Binary task " + System.nanoTime();
+        String createdFrom = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1).toString();
+        MvcResult created = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateTaskRequest(name, "Encoded", TaskStatus.IN_PROGRESS))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String taskId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+
+        MvcResult cbor = mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+        var decoded = new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray());
+        assertThat(decoded.get("name").asText()).isEqualTo(name);
+        assertThat(decoded.get("status").asText()).isEqualTo("IN_PROGRESS");
+
+        MvcResult protobuf = mockMvc.perform(get("/api/v1/tasks")
+                        .param("createdFrom", createdFrom)
+                        .accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andReturn();
+        var page = TaskProtobufCodec.readPage(CodedInputStream.newInstance(protobuf.getResponse().getContentAsByteArray()));
+        assertThat(page.content()).anySatisfy(task -> {
+            assertThat(task.id()).isEqualTo(taskId);
+            assertThat(task.name()).isEqualTo(name);
+        });
+
+        // Sem Accept específico, continua JSON
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
 }
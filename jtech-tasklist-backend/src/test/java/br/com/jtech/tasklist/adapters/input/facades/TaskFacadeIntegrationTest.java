@@ -3,13 +3,25 @@ package br.com.jtech.tasklist.adapters.input.facades;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatistics;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -26,6 +38,9 @@ class TaskFacadeIntegrationTest {
     @Autowired
     private TaskFacade taskFacade;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private String createdTaskId;
 
     @Test
@@ -109,6 +124,7 @@ class TaskFacadeIntegrationTest {
         TaskOutput found = taskFacade.findTaskById(created.getId());
         assertThat(found.getName()).isEqualTo("Updated Task Name");
         assertThat(found.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(updated.getCreatedAt()).isEqualTo(found.getCreatedAt());
     }
 
     @Test
@@ -270,4 +286,162 @@ class TaskFacadeIntegrationTest {
         assertThat(taskFacade.findTaskById(inProgress.getId())).isNotNull();
         assertThat(taskFacade.findTaskById(completed.getId())).isNotNull();
     }
+
+    @Test
+    @Order(11)
+    @DisplayName("Should throw exception when deleting an already deleted task")
+    void shouldThrowExceptionWhenDeletingAlreadyDeletedTask() {
+        // Given
+        TaskOutput created = taskFacade.createTask(new CreateTaskCommand(
+                "Double Delete Task",
+                "Task deleted twice",
+                TaskStatus.PENDING
+        ));
+        taskFacade.deleteTask(created.getId());
+
+        // When/Then - the second delete affects no active row
+        assertThatThrownBy(() -> taskFacade.deleteTask(created.getId()))
+                .isInstanceOf(DomainResourceNotFoundException.class)
+                .hasMessage("error.task.not_found");
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Should import tasks keeping the first occurrence of each new name")
+    void shouldImportTasksKeepingFirstOccurrenceOfEachNewName() {
+        // Given
+        String suffix = " " + System.nanoTime();
+        taskFacade.createTask(new CreateTaskCommand("Imported Existing" + suffix, "Already stored", TaskStatus.PENDING));
+
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Imported One" + suffix, "First", TaskStatus.PENDING),
+                new CreateTaskCommand("IMPORTED ONE" + suffix, "Repeated in file", TaskStatus.COMPLETED),
+                new CreateTaskCommand("imported existing" + suffix, "Clashes with stored task", TaskStatus.PENDING),
+                new CreateTaskCommand("", "Invalid name", TaskStatus.PENDING),
+                new CreateTaskCommand("Imported Two" + suffix, "Second", TaskStatus.IN_PROGRESS)
+        );
+
+        // When
+        ImportResult result = taskFacade.importTasks(commands.iterator());
+
+        // Then
+        assertThat(result.read()).isEqualTo(5);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.duplicatedInInput()).isEqualTo(1);
+        assertThat(result.alreadyExisting()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Should move tasks deleted before the retention to the archive")
+    void shouldArchiveTasksDeletedBeforeRetention() {
+        // Given
+        TaskOutput old = taskFacade.createTask(new CreateTaskCommand(
+                "Archive Old " + System.nanoTime(), "Deleted long ago", TaskStatus.PENDING));
+        TaskOutput recent = taskFacade.createTask(new CreateTaskCommand(
+                "Archive Recent " + System.nanoTime(), "Deleted just now", TaskStatus.PENDING));
+        taskFacade.deleteTask(old.getId());
+        taskFacade.deleteTask(recent.getId());
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS)), UUID.fromString(old.getId()));
+
+        // When
+        ArchiveResult result = taskFacade.archiveDeletedTasks();
+
+        // Then
+        assertThat(result.archived()).isGreaterThanOrEqualTo(1);
+        assertThat(result.completed()).isTrue();
+        assertThat(countById("tasks", old.getId())).isZero();
+        assertThat(countById("tasks_archive", old.getId())).isOne();
+        assertThat(countById("tasks", recent.getId())).isOne();
+        assertThat(countById("tasks_archive", recent.getId())).isZero();
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Should search by words in name and description, ranking name matches first")
+    void shouldSearchRankingNameMatchesFirst() {
+        // Given
+        String word = "zeta" + System.nanoTime();
+        TaskOutput inDescription = taskFacade.createTask(new CreateTaskCommand(
+                "Search Description " + System.nanoTime(), "Mentions " + word + " here", TaskStatus.PENDING));
+        TaskOutput inName = taskFacade.createTask(new CreateTaskCommand(
+                "Search " + word, "Name match", TaskStatus.PENDING));
+        TaskOutput deleted = taskFacade.createTask(new CreateTaskCommand(
+                "Search Deleted " + System.nanoTime(), "Also " + word, TaskStatus.PENDING));
+        taskFacade.deleteTask(deleted.getId());
+
+        // When
+        CursorPage<TaskOutput> first = taskFacade.searchTasks(word.toUpperCase(), null, 1);
+        CursorPage<TaskOutput> second = taskFacade.searchTasks(word, first.next().encode(), 1);
+
+        // Then
+        assertThat(first.content()).extracting(TaskOutput::getId).containsExactly(inName.getId());
+        assertThat(second.content()).extracting(TaskOutput::getId).containsExactly(inDescription.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Should keep status counters in step with writes and correct drift on reconciliation")
+    void shouldKeepStatusCountersInStepWithWrites() {
+        // Given
+        taskFacade.reconcileTaskStatistics();
+        TaskStatistics before = taskFacade.findTaskStatistics();
+
+        // When
+        TaskOutput task = taskFacade.createTask(new CreateTaskCommand(
+                "Counter Task " + System.nanoTime(), "Counted", TaskStatus.PENDING));
+        TaskStatistics afterCreate = taskFacade.findTaskStatistics();
+        taskFacade.updateTask(new UpdateTaskCommand(task.getId(), task.getName(), "Counted", TaskStatus.COMPLETED));
+        TaskStatistics afterUpdate = taskFacade.findTaskStatistics();
+        taskFacade.deleteTask(task.getId());
+        TaskStatistics afterDelete = taskFacade.findTaskStatistics();
+
+        // Then
+        assertThat(afterCreate.byStatus().get(TaskStatus.PENDING)).isEqualTo(before.byStatus().get(TaskStatus.PENDING) + 1);
+        assertThat(afterUpdate.byStatus().get(TaskStatus.PENDING)).isEqualTo(before.byStatus().get(TaskStatus.PENDING));
+        assertThat(afterUpdate.byStatus().get(TaskStatus.COMPLETED)).isEqualTo(before.byStatus().get(TaskStatus.COMPLETED) + 1);
+        assertThat(afterDelete).isEqualTo(before);
+
+        // When - the stored counter drifts
+        jdbcTemplate.update("UPDATE task_counters SET total = total + 5 WHERE status = 'PENDING'");
+
+        // Then
+        assertThat(taskFacade.reconcileTaskStatistics()).isEqualTo(5);
+        assertThat(taskFacade.findTaskStatistics()).isEqualTo(before);
+        assertThat(taskFacade.reconcileTaskStatistics()).isZero();
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Should overwrite the archived copy of a task id that is archived again")
+    void shouldOverwriteArchivedCopyWithSameId() {
+        // Given
+        TaskOutput task = taskFacade.createTask(new CreateTaskCommand(
+                "Archive Again " + System.nanoTime(), "Latest", TaskStatus.COMPLETED));
+        jdbcTemplate.update("INSERT INTO tasks_archive (id, name, description, status) VALUES (?, ?, 'Stale', 'PENDING')",
+                UUID.fromString(task.getId()), task.getName());
+        taskFacade.deleteTask(task.getId());
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS)), UUID.fromString(task.getId()));
+
+        // When
+        ArchiveResult result = taskFacade.archiveDeletedTasks();
+
+        // Then
+        assertThat(result.completed()).isTrue();
+        assertThat(countById("tasks", task.getId())).isZero();
+        assertThat(jdbcTemplate.queryForMap("SELECT description, status FROM tasks_archive WHERE id = ?",
+                UUID.fromString(task.getId())))
+                .containsEntry("description", "Latest")
+                .containsEntry("status", "COMPLETED");
+    }
+
+    private int countById(String table, String id) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, UUID.fromString(id));
+        return count != null ? count : 0;
+    }
 }
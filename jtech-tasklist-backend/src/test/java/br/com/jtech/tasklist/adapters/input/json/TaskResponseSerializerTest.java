@@ -0,0 +1,62 @@
+package br.com.jtech.tasklist.adapters.input.json;
+
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskResponseSerializer Tests")
+class TaskResponseSerializerTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 3, 10, 12, 30, 15, 123456000, ZoneOffset.ofHours(-3));
+
+    // Desliga o serializador próprio para comparar com o que o serializador de beans produziria
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface BeanSerialization {
+    }
+
+    private static JsonMapper.Builder mapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private final ObjectMapper tuned = mapper().build();
+    private final ObjectMapper bean = mapper().addMixIn(TaskResponse.class, BeanSerialization.class).build();
+
+    @Test
+    @DisplayName("Should write the same JSON as the bean serializer")
+    void shouldMatchBeanSerialization() throws Exception {
+        var tasks = List.of(
+                new TaskResponse("0190a4b2-7c1e-7000-8000-000000000001", "Report \"Q1\"", "Line one\nline two",
+                        TaskStatus.IN_PROGRESS, CREATED_AT, 3L),
+                new TaskResponse("0190a4b2-7c1e-7000-8000-000000000002", "Draft", "Without version",
+                        TaskStatus.PENDING, CREATED_AT, null));
+
+        assertThat(tuned.writeValueAsString(tasks)).isEqualTo(bean.writeValueAsString(tasks));
+    }
+
+    @Test
+    @DisplayName("Should keep the configured date format")
+    void shouldUseConfiguredDateSerializer() throws Exception {
+        var task = new TaskResponse("id", "Name", "Description", TaskStatus.COMPLETED, CREATED_AT, 0L);
+
+        String withTimestamps = mapper().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+                .writeValueAsString(task);
+
+        assertThat(tuned.writeValueAsString(task)).contains("\"createdAt\":\"2025-03-10T12:30:15.123456-03:00\"");
+        assertThat(withTimestamps).doesNotContain("2025-03-10T");
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.jtech.tasklist.adapters.input.protobuf;
+
+import br.com.jtech.tasklist.adapters.input.dto.PageResponse;
+import br.com.jtech.tasklist.adapters.input.dto.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskProtobufCodec Tests")
+class TaskProtobufCodecTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 3, 10, 12, 30, 15, 123456000, ZoneOffset.ofHours(-3));
+
+    private static byte[] encode(PageResponse<TaskResponse> page) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(bytes);
+        TaskProtobufCodec.writePage(page, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should read back the page it wrote, with the creation instant in UTC")
+    void shouldRoundTripPage() throws IOException {
+        var page = new PageResponse<>(List.of(
+                new TaskResponse("0190a4b2-7c1e-7000-8000-000000000001", "Relatório", "Descrição com acentuação",
+                        TaskStatus.IN_PROGRESS, CREATED_AT, 0L),
+                new TaskResponse("0190a4b2-7c1e-7000-8000-000000000002", "Draft", "Without version",
+                        TaskStatus.COMPLETED, CREATED_AT, null)),
+                2, 20, 42L, 3);
+
+        PageResponse<TaskResponse> decoded = TaskProtobufCodec.readPage(CodedInputStream.newInstance(encode(page)));
+
+        assertThat(decoded.page()).isEqualTo(2);
+        assertThat(decoded.size()).isEqualTo(20);
+        assertThat(decoded.totalElements()).isEqualTo(42L);
+        assertThat(decoded.totalPages()).isEqualTo(3);
+        assertThat(decoded.content()).hasSize(2);
+        TaskResponse first = decoded.content().getFirst();
+        assertThat(first.name()).isEqualTo("Relatório");
+        assertThat(first.description()).isEqualTo("Descrição com acentuação");
+        assertThat(first.status()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(first.createdAt()).isEqualTo(CREATED_AT.withOffsetSameInstant(ZoneOffset.UTC));
+        assertThat(first.version()).isZero();
+        assertThat(decoded.content().get(1).version()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should omit default values, as proto3 does")
+    void shouldOmitDefaults() throws IOException {
+        assertThat(encode(new PageResponse<>(List.of(), 0, 0, 0L, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should encode the status with the numbers fixed in the schema")
+    void shouldEncodeStatusWithSchemaNumbers() throws IOException {
+        var task = new TaskResponse("", "", "", TaskStatus.PENDING, null, null);
+        var bytes = new ByteArrayOutputStream();
+        var out = CodedOutputStream.newInstance(bytes);
+
+        TaskProtobufCodec.writeTask(task, out);
+        out.flush();
+
+        // Campo 4 (varint) com o valor 1
+        assertThat(bytes.toByteArray()).containsExactly(0x20, 0x01);
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.jtech.tasklist.adapters.output.cache;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingTaskPersistenceGateway Tests")
+class CachingTaskPersistenceGatewayTest {
+
+    private static final String TASK_ID = "0190a4b2-7c1e-7000-8000-000000000001";
+
+    @Mock
+    private TaskPersistenceGateway delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingTaskPersistenceGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gateway = new CachingTaskPersistenceGateway(delegate, 100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    private static TaskView view(String name) {
+        return new TaskView(TASK_ID, name, "Description", TaskStatus.PENDING, OffsetDateTime.now(), 0L);
+    }
+
+    private static Task task(String name) {
+        return new Task(TASK_ID, name, "Description", TaskStatus.PENDING, OffsetDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should read a task by ID from the delegate only once and export hits and misses")
+    void shouldCacheLookupById() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.of(view("Cached")));
+
+        // When
+        gateway.findViewById(TASK_ID);
+        Optional<TaskView> found = gateway.findViewById(TASK_ID);
+
+        // Then
+        assertThat(found).map(TaskView::name).contains("Cached");
+        verify(delegate, times(1)).findViewById(TASK_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks.gateway.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks.gateway.by-id").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing tasks")
+    void shouldNotCacheAbsence() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.empty());
+
+        // When
+        gateway.findViewById(TASK_ID);
+        gateway.findViewById(TASK_ID);
+
+        // Then
+        verify(delegate, times(2)).findViewById(TASK_ID);
+    }
+
+    @Test
+    @DisplayName("Should read a task by case-insensitive name only once and return independent copies")
+    void shouldCacheLookupByName() {
+        // Given
+        when(delegate.findByName("Report")).thenReturn(Optional.of(task("Report")));
+
+        // When
+        Task first = gateway.findByName("Report").orElseThrow();
+        first.setName("Changed by caller");
+        Optional<Task> second = gateway.findByName("REPORT");
+
+        // Then
+        assertThat(second).map(Task::getName).contains("Report");
+        verify(delegate, times(1)).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("Should evict the task by ID and by its old name when it is updated")
+    void shouldEvictOnUpdate() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.of(view("Before")), Optional.of(view("After")));
+        when(delegate.findByName("Before")).thenReturn(Optional.of(task("Before")), Optional.empty());
+        gateway.findViewById(TASK_ID);
+        gateway.findByName("Before");
+
+        // When
+        gateway.update(task("After"));
+
+        // Then
+        assertThat(gateway.findViewById(TASK_ID)).map(TaskView::name).contains("After");
+        assertThat(gateway.findByName("Before")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the task when it is deleted by ID")
+    void shouldEvictOnDelete() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.of(view("Deleted")), Optional.empty());
+        gateway.findViewById(TASK_ID);
+
+        // When
+        gateway.delete(TASK_ID);
+
+        // Then
+        assertThat(gateway.findViewById(TASK_ID)).isEmpty();
+        verify(delegate).delete(TASK_ID);
+    }
+
+    @Test
+    @DisplayName("Should evict every cached task when a write selects tasks by filter")
+    void shouldEvictAllOnFilteredWrite() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.of(view("Pending")));
+        gateway.findViewById(TASK_ID);
+
+        // When
+        gateway.deleteMatching(new TaskFilter(TaskStatus.PENDING));
+        gateway.findViewById(TASK_ID);
+
+        // Then
+        verify(delegate, times(2)).findViewById(TASK_ID);
+    }
+
+    @Test
+    @DisplayName("Should pass bulk writes by ID through to the delegate after evicting them")
+    void shouldEvictOnBulkWriteByIds() {
+        // Given
+        when(delegate.findViewById(TASK_ID)).thenReturn(Optional.of(view("Pending")));
+        when(delegate.updateStatusByIds(List.of(TASK_ID), TaskStatus.COMPLETED)).thenReturn(1);
+        gateway.findViewById(TASK_ID);
+
+        // When
+        int updated = gateway.updateStatusByIds(List.of(TASK_ID), TaskStatus.COMPLETED);
+        gateway.findViewById(TASK_ID);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        verify(delegate, times(2)).findViewById(TASK_ID);
+    }
+}
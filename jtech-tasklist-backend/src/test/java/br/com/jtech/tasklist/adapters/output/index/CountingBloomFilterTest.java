@@ -0,0 +1,68 @@
+package br.com.jtech.tasklist.adapters.output.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CountingBloomFilter Tests")
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never rule out a key that was added")
+    void shouldKeepEveryAddedKey() {
+        // Given
+        var filter = new CountingBloomFilter(10_000, 0.01);
+
+        // When
+        IntStream.range(0, 10_000).forEach(i -> filter.add("task " + i));
+
+        // Then
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("task " + i));
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured one at the expected size")
+    void shouldKeepFalsePositiveRateNearConfigured() {
+        // Given
+        var filter = new CountingBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("task " + i));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain("absent " + i)).count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    @DisplayName("Should forget a removed key without affecting the others")
+    void shouldForgetRemovedKey() {
+        // Given
+        var filter = new CountingBloomFilter(1000, 0.01);
+        filter.add("kept");
+        filter.add("removed");
+        filter.add("twice");
+        filter.add("twice");
+
+        // When
+        filter.remove("removed");
+        filter.remove("twice");
+
+        // Then
+        assertThat(filter.mightContain("removed")).isFalse();
+        assertThat(filter.mightContain("kept")).isTrue();
+        assertThat(filter.mightContain("twice")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject sizes that cannot build a filter")
+    void shouldRejectInvalidSizes() {
+        assertThatThrownBy(() -> new CountingBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountingBloomFilter(1000, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.jtech.tasklist.adapters.output.index;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestion;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryTaskNameIndex Tests")
+class InMemoryTaskNameIndexTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryTaskNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nameIndex = new InMemoryTaskNameIndex(persistenceGateway, 3, () -> new CountingBloomFilter(1000, 0.01), meterRegistry);
+    }
+
+    private static TaskView view(String id, String name) {
+        return new TaskView(id, name, "Description", TaskStatus.PENDING, OffsetDateTime.now(), 0L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void storedTasks(TaskView... views) {
+        when(persistenceGateway.streamAllViews(any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<TaskView> consumer = invocation.getArgument(0);
+            List.of(views).forEach(consumer);
+            return (long) views.length;
+        });
+    }
+
+    @Test
+    @DisplayName("Should suggest names by case-insensitive prefix in alphabetical order")
+    void shouldSuggestByPrefixInAlphabeticalOrder() {
+        // Given
+        nameIndex.put("id-1", "Report review");
+        nameIndex.put("id-2", "report");
+        nameIndex.put("id-3", "Repair bike");
+
+        // When
+        List<TaskNameSuggestion> suggestions = nameIndex.suggest("REPO", 10);
+
+        // Then
+        assertThat(suggestions).extracting(TaskNameSuggestion::name).containsExactly("report", "Report review");
+        assertThat(nameIndex.suggest("rep", 1)).extracting(TaskNameSuggestion::id).containsExactly("id-3");
+        assertThat(nameIndex.findIdByName("REPORT")).contains("id-2");
+        assertThat(nameIndex.findIdByName("repo")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace the indexed name on update and forget it on removal")
+    void shouldReplaceNameOnUpdateAndForgetOnRemoval() {
+        // Given
+        nameIndex.put("id-1", "Draft");
+        nameIndex.put("id-1", "Final");
+
+        // Then
+        assertThat(nameIndex.findIdByName("draft")).isEmpty();
+        assertThat(nameIndex.findIdByName("final")).contains("id-1");
+
+        // When
+        nameIndex.remove("id-1");
+
+        // Then
+        assertThat(nameIndex.suggest("f", 10)).isEmpty();
+        assertThat(meterRegistry.get("tasks.name.index.entries").gauge().value()).isZero();
+        assertThat(meterRegistry.get("tasks.name.index.memory").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop indexing new names at capacity and count them as dropped")
+    void shouldStopIndexingAtCapacity() {
+        // Given
+        nameIndex.put("id-1", "A");
+        nameIndex.put("id-2", "B");
+        nameIndex.put("id-3", "C");
+
+        // When
+        nameIndex.put("id-4", "D");
+        nameIndex.put("id-3", "C renamed");
+
+        // Then
+        assertThat(nameIndex.findIdByName("d")).isEmpty();
+        assertThat(nameIndex.findIdByName("c renamed")).contains("id-3");
+        assertThat(meterRegistry.get("tasks.name.index.entries").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("tasks.name.index.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the active tasks and drop names no longer stored")
+    void shouldRebuildFromActiveTasks() {
+        // Given
+        nameIndex.put("id-1", "Deleted elsewhere");
+        storedTasks(view("id-2", "Stored"), view("id-3", "Also stored"));
+
+        // When
+        nameIndex.rebuild();
+
+        // Then
+        assertThat(nameIndex.findIdByName("deleted elsewhere")).isEmpty();
+        assertThat(nameIndex.suggest("", 10)).extracting(TaskNameSuggestion::id).containsExactly("id-3", "id-2");
+        verify(persistenceGateway).streamAllViews(any());
+    }
+
+    @Test
+    @DisplayName("Should not rule out any name before the first load")
+    void shouldNotRuleOutNamesBeforeFirstLoad() {
+        assertThat(nameIndex.mightContain("anything")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rule out names no active task uses, keeping up with renames, removals and dropped names")
+    void shouldRuleOutAbsentNames() {
+        // Given
+        storedTasks(view("id-1", "Draft"));
+        nameIndex.rebuild();
+
+        // When
+        nameIndex.put("id-1", "Final");
+        nameIndex.put("id-2", "Second");
+        nameIndex.put("id-3", "Third");
+        nameIndex.put("id-4", "Beyond capacity");
+        nameIndex.remove("id-2");
+
+        // Then
+        assertThat(nameIndex.mightContain("FINAL")).isTrue();
+        assertThat(nameIndex.mightContain("Beyond capacity")).isTrue();
+        assertThat(nameIndex.mightContain("draft")).isFalse();
+        assertThat(nameIndex.mightContain("second")).isFalse();
+        assertThat(meterRegistry.get("tasks.name.filter.skipped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report the observed false positive rate from the recorded probes")
+    void shouldReportObservedFalsePositiveRate() {
+        // Given
+        storedTasks();
+        nameIndex.rebuild();
+        nameIndex.mightContain("absent");
+
+        // When
+        nameIndex.recordProbe(false);
+        nameIndex.recordProbe(true);
+
+        // Then
+        assertThat(meterRegistry.get("tasks.name.filter.probes").tag("result", "false_positive").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("tasks.name.filter.false_positive_rate").gauge().value()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.adapters.BaseE2ETest;
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa reconciliações dos contadores ao mesmo tempo que tarefas mudam de status, no PostgreSQL,
+ * que aborta uma das transações quando as linhas de {@code task_counters} são bloqueadas em ordens diferentes.
+ */
+@DisplayName("Task counters concurrency Tests")
+class TaskCounterConcurrencyTest extends BaseE2ETest {
+
+    private static final int WRITERS = 4;
+    private static final int MOVES_PER_WRITER = 50;
+
+    @Autowired
+    private TaskFacade taskFacade;
+
+    @Test
+    @DisplayName("Should reconcile counters while tasks move between statuses without deadlocks")
+    void shouldReconcileWhileStatusesMove() throws Exception {
+        // Given
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            taskIds.add(taskFacade.createTask(new CreateTaskCommand(
+                    "Counter move " + i + " " + System.nanoTime(), "Moved", TaskStatus.PENDING)).getId());
+        }
+        taskFacade.reconcileTaskStatistics();
+        var failures = new ConcurrentLinkedQueue<Throwable>();
+        var writersDone = new AtomicBoolean();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+
+        // When
+        try {
+            Future<?> reconciler = executor.submit(() -> {
+                await(start);
+                do {
+                    try {
+                        taskFacade.reconcileTaskStatistics();
+                    } catch (RuntimeException e) {
+                        failures.add(e);
+                    }
+                } while (!writersDone.get());
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (String taskId : taskIds) {
+                writers.add(executor.submit(() -> {
+                    await(start);
+                    for (int move = 0; move < MOVES_PER_WRITER; move++) {
+                        TaskStatus target = move % 2 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING;
+                        try {
+                            taskFacade.patchTask(new PatchTaskCommand(taskId, null, null, target, null));
+                        } catch (RuntimeException e) {
+                            failures.add(e);
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+            writersDone.set(true);
+            reconciler.get(2, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(taskFacade.reconcileTaskStatistics()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.adapters.BaseE2ETest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aplica a migração do índice único de nomes sobre uma base que já tem tarefas ativas cujos nomes
+ * diferem só em maiúsculas, num schema próprio para não interferir nas tabelas usadas pelos demais testes.
+ */
+@DisplayName("Task name unique index migration Tests")
+class TaskNameUniqueIndexMigrationTest extends BaseE2ETest {
+
+    private static final String SCHEMA = "name_index_migration";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should rename 50-character duplicates within the name length limit")
+    void shouldRenameLongDuplicatesWithinLimit() {
+        // Given
+        migrateTo("1.1.0");
+        String name = "A".repeat(25) + "b".repeat(25);
+        UUID older = UUID.fromString("00000000-0000-7000-8000-000000000001");
+        UUID newer = UUID.fromString("00000000-0000-7000-8000-000000000002");
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".tasks (id, name, description, status, created_at)"
+                + " VALUES (?, ?, 'Older', 'PENDING', TIMESTAMP '2025-01-01 10:00:00')", older, name);
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".tasks (id, name, description, status, created_at)"
+                + " VALUES (?, ?, 'Newer', 'PENDING', TIMESTAMP '2025-01-02 10:00:00')", newer, name.toUpperCase());
+
+        // When
+        migrateTo("1.2.0");
+
+        // Then
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT name FROM " + SCHEMA + ".tasks ORDER BY created_at", String.class);
+        assertThat(names).containsExactly(name, name.toUpperCase().substring(0, 36) + " #000000000002");
+        assertThat(names).allSatisfy(renamed -> assertThat(renamed).hasSizeLessThanOrEqualTo(50));
+    }
+
+    private static void migrateTo(String version) {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .target(version)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.jtech.tasklist.adapters.output.persistence;
+
+import br.com.jtech.tasklist.adapters.input.facades.TaskFacade;
+import br.com.jtech.tasklist.adapters.output.persistence.entities.TaskEntity;
+import br.com.jtech.tasklist.adapters.output.persistence.repositories.adapters.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cache de segundo nível das tarefas: leituras repetidas não voltam ao banco e as alterações
+ * feitas por SQL nativo e por UPDATE em JPQL invalidam as entradas afetadas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Task Second-Level Cache Integration Tests")
+class TaskSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private TaskFacade taskFacade;
+
+    @Autowired
+    private TaskRepositoryAdapter taskRepositoryAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by ID from the entity cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        TaskOutput created = taskFacade.createTask(new CreateTaskCommand("L2 cached lookup", "Description", TaskStatus.PENDING));
+        taskFacade.findTaskById(created.getId());
+        statistics.clear();
+
+        TaskOutput found = taskFacade.findTaskById(created.getId());
+
+        assertThat(found.getName()).isEqualTo("L2 cached lookup");
+        var region = statistics.getDomainDataRegionStatistics(TaskEntity.CACHE_REGION);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(region.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not serve a stale task after an update")
+    void shouldInvalidateOnUpdate() {
+        TaskOutput created = taskFacade.createTask(new CreateTaskCommand("L2 before update", "Description", TaskStatus.PENDING));
+        taskFacade.findTaskById(created.getId());
+
+        taskFacade.updateTask(new UpdateTaskCommand(created.getId(), "L2 after update", "Changed", TaskStatus.COMPLETED));
+        TaskOutput found = taskFacade.findTaskById(created.getId());
+
+        assertThat(found.getName()).isEqualTo("L2 after update");
+        assertThat(found.getDescription()).isEqualTo("Changed");
+        assertThat(found.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should not serve a task from the cache after a soft delete")
+    void shouldInvalidateOnSoftDelete() {
+        TaskOutput created = taskFacade.createTask(new CreateTaskCommand("L2 before delete", "Description", TaskStatus.PENDING));
+        taskFacade.findTaskById(created.getId());
+
+        taskFacade.deleteTask(created.getId());
+
+        assertThatThrownBy(() -> taskFacade.findTaskById(created.getId()))
+                .isInstanceOf(DomainResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by name from the query cache and drop them after a rename")
+    void shouldInvalidateCachedQueriesOnRename() {
+        TaskOutput created = taskFacade.createTask(new CreateTaskCommand("L2 cached name", "Description", TaskStatus.PENDING));
+        taskRepositoryAdapter.findByName("L2 cached name");
+        statistics.clear();
+
+        assertThat(taskRepositoryAdapter.findByName("L2 cached name")).isPresent();
+        assertThat(statistics.getQueryRegionStatistics(TaskEntity.QUERY_CACHE_REGION).getHitCount()).isEqualTo(1);
+
+        taskFacade.updateTask(new UpdateTaskCommand(created.getId(), "L2 renamed", "Description", TaskStatus.PENDING));
+
+        assertThat(taskRepositoryAdapter.findByName("L2 cached name")).isEmpty();
+        assertThat(taskRepositoryAdapter.findByName("L2 renamed")).isPresent();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ArchiveDeletedTasksUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.batch.ArchivePolicy;
+import br.com.jtech.tasklist.application.dto.batch.ArchiveResult;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveDeletedTasksUseCase Tests")
+class ArchiveDeletedTasksUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    private ArchiveDeletedTasksUseCaseImpl useCase(int chunkSize, int maxChunks) {
+        return new ArchiveDeletedTasksUseCaseImpl(persistenceGateway,
+                new ArchivePolicy(Duration.ofDays(30), chunkSize, maxChunks, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should archive in chunks until a partial chunk is returned")
+    void shouldArchiveInChunksUntilPartialChunk() {
+        // Given
+        when(persistenceGateway.archiveDeletedBefore(any(OffsetDateTime.class), eq(100)))
+                .thenReturn(100, 100, 42);
+
+        // When
+        ArchiveResult result = useCase(100, 10).execute();
+
+        // Then
+        assertThat(result.archived()).isEqualTo(242);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.completed()).isTrue();
+        verify(persistenceGateway, times(3)).archiveDeletedBefore(any(OffsetDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should stop at the chunk limit and leave the rest for the next run")
+    void shouldStopAtChunkLimit() {
+        // Given
+        when(persistenceGateway.archiveDeletedBefore(any(OffsetDateTime.class), eq(50))).thenReturn(50);
+
+        // When
+        ArchiveResult result = useCase(50, 2).execute();
+
+        // Then
+        assertThat(result.archived()).isEqualTo(100);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.completed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should use the same cutoff, older than the retention, for every chunk")
+    void shouldUseSameCutoffForEveryChunk() {
+        // Given
+        ArgumentCaptor<OffsetDateTime> cutoff = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(persistenceGateway.archiveDeletedBefore(cutoff.capture(), eq(10))).thenReturn(10, 0);
+
+        // When
+        useCase(10, 5).execute();
+
+        // Then
+        assertThat(cutoff.getAllValues()).hasSize(2).containsOnly(cutoff.getAllValues().get(0));
+        assertThat(cutoff.getValue()).isBefore(OffsetDateTime.now().minusDays(29));
+    }
+}
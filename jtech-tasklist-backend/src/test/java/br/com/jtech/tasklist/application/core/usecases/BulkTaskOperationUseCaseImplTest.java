@@ -0,0 +1,163 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)BulkTaskOperationUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskOperation;
+import br.com.jtech.tasklist.application.dto.task.BulkTaskResult;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkTaskOperationUseCase Tests")
+class BulkTaskOperationUseCaseImplTest {
+
+    private static final List<String> IDS = List.of(
+            "550e8400-e29b-41d4-a716-446655440001",
+            "550e8400-e29b-41d4-a716-446655440002"
+    );
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
+    private BulkTaskOperationUseCaseImpl bulkTaskOperationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkTaskOperationUseCase = new BulkTaskOperationUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
+    }
+
+    @Test
+    @DisplayName("Should update status of tasks selected by ids in one update and move their counts")
+    void shouldUpdateStatusByIds() {
+        // Given
+        BulkTaskCommand command = new BulkTaskCommand(IDS, null, BulkTaskOperation.SET_STATUS, TaskStatus.COMPLETED);
+        when(persistenceGateway.lockStatuses(IDS)).thenReturn(List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS));
+        when(persistenceGateway.updateStatusByIds(IDS, TaskStatus.COMPLETED)).thenReturn(2);
+
+        // When
+        BulkTaskResult result = bulkTaskOperationUseCase.execute(command);
+
+        // Then
+        assertThat(result.operation()).isEqualTo(BulkTaskOperation.SET_STATUS);
+        assertThat(result.affected()).isEqualTo(2);
+        verify(persistenceGateway).lockStatuses(IDS);
+        verify(persistenceGateway).updateStatusByIds(IDS, TaskStatus.COMPLETED);
+        verifyNoMoreInteractions(persistenceGateway);
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.PENDING, -1)
+                .plus(TaskStatus.IN_PROGRESS, -1)
+                .plus(TaskStatus.COMPLETED, 2));
+    }
+
+    @Test
+    @DisplayName("Should update status of tasks selected by filter")
+    void shouldUpdateStatusByFilter() {
+        // Given
+        TaskFilter filter = new TaskFilter(TaskStatus.IN_PROGRESS);
+        BulkTaskCommand command = new BulkTaskCommand(null, filter, BulkTaskOperation.SET_STATUS, TaskStatus.COMPLETED);
+        when(persistenceGateway.updateStatusMatching(filter, TaskStatus.COMPLETED)).thenReturn(7);
+
+        // When
+        BulkTaskResult result = bulkTaskOperationUseCase.execute(command);
+
+        // Then
+        assertThat(result.affected()).isEqualTo(7);
+        verify(counterGateway).apply(TaskStatusDeltas.moved(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, 7));
+    }
+
+    @Test
+    @DisplayName("Should soft delete tasks selected by ids or by filter")
+    void shouldDeleteByIdsOrFilter() {
+        // Given
+        TaskFilter filter = new TaskFilter(TaskStatus.COMPLETED);
+        when(persistenceGateway.lockStatuses(IDS)).thenReturn(List.of(TaskStatus.COMPLETED));
+        when(persistenceGateway.deleteByIds(IDS)).thenReturn(1);
+        when(persistenceGateway.deleteMatching(filter)).thenReturn(4);
+
+        // When
+        BulkTaskResult byIds = bulkTaskOperationUseCase.execute(new BulkTaskCommand(IDS, null, BulkTaskOperation.DELETE, null));
+        BulkTaskResult byFilter = bulkTaskOperationUseCase.execute(new BulkTaskCommand(null, filter, BulkTaskOperation.DELETE, null));
+
+        // Then
+        assertThat(byIds.affected()).isEqualTo(1);
+        assertThat(byFilter.affected()).isEqualTo(4);
+        verify(nameIndex).removeAll(IDS);
+        verify(nameIndex).rebuild();
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.COMPLETED, -1));
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.COMPLETED, -4));
+    }
+
+    @Test
+    @DisplayName("Should reject commands selecting by both ids and filter, or by neither")
+    void shouldRejectAmbiguousOrMissingSelection() {
+        TaskFilter filter = new TaskFilter(TaskStatus.COMPLETED);
+
+        assertThatThrownBy(() -> bulkTaskOperationUseCase.execute(
+                new BulkTaskCommand(IDS, filter, BulkTaskOperation.DELETE, null)))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.bulk.selection.invalid");
+
+        assertThatThrownBy(() -> bulkTaskOperationUseCase.execute(
+                new BulkTaskCommand(null, new TaskFilter(null), BulkTaskOperation.DELETE, null)))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.bulk.selection.invalid");
+
+        verifyNoInteractions(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject empty or oversized id lists")
+    void shouldRejectInvalidIdListSize() {
+        List<String> tooMany = Collections.nCopies(BulkTaskOperationUseCaseImpl.MAX_IDS + 1, IDS.get(0));
+
+        assertThatThrownBy(() -> bulkTaskOperationUseCase.execute(
+                new BulkTaskCommand(List.of(), null, BulkTaskOperation.DELETE, null)))
+                .hasMessage("error.task.bulk.ids.size");
+        assertThatThrownBy(() -> bulkTaskOperationUseCase.execute(
+                new BulkTaskCommand(tooMany, null, BulkTaskOperation.DELETE, null)))
+                .hasMessage("error.task.bulk.ids.size");
+    }
+
+    @Test
+    @DisplayName("Should require target status for SET_STATUS")
+    void shouldRequireTargetStatus() {
+        assertThatThrownBy(() -> bulkTaskOperationUseCase.execute(
+                new BulkTaskCommand(IDS, null, BulkTaskOperation.SET_STATUS, null)))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.status.mandatory");
+    }
+}
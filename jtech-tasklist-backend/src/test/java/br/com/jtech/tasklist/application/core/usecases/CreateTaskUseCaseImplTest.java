@@ -17,6 +17,9 @@ import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
 import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +28,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,11 +41,17 @@ class CreateTaskUseCaseImplTest {
     @Mock
     private TaskPersistenceGateway persistenceGateway;
 
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
     private CreateTaskUseCaseImpl createTaskUseCase;
 
     @BeforeEach
     void setUp() {
-        createTaskUseCase = new CreateTaskUseCaseImpl(persistenceGateway);
+        createTaskUseCase = new CreateTaskUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
     }
 
     @Test
@@ -59,7 +66,6 @@ class CreateTaskUseCaseImplTest {
 
         Task savedTask = new Task("550e8400-e29b-41d4-a716-446655440000", "New Task", "Task Description", TaskStatus.PENDING);
 
-        when(persistenceGateway.findByName(anyString())).thenReturn(Optional.empty());
         when(persistenceGateway.save(any(Task.class))).thenReturn(savedTask);
 
         // When
@@ -72,8 +78,10 @@ class CreateTaskUseCaseImplTest {
         assertThat(result.getDescription()).isEqualTo("Task Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.PENDING);
 
-        verify(persistenceGateway).findByName("New Task");
         verify(persistenceGateway).save(any(Task.class));
+        verify(persistenceGateway, never()).findByName(anyString());
+        verify(nameIndex).put("550e8400-e29b-41d4-a716-446655440000", "New Task");
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.PENDING, 1));
     }
 
     @Test
@@ -86,22 +94,21 @@ class CreateTaskUseCaseImplTest {
                 TaskStatus.PENDING
         );
 
-        Task existingTask = new Task("550e8400-e29b-41d4-a716-446655440001", "Existing Task", "Description", TaskStatus.PENDING);
-
-        when(persistenceGateway.findByName(anyString())).thenReturn(Optional.of(existingTask));
+        when(persistenceGateway.save(any(Task.class)))
+                .thenThrow(new DomainResourceAlreadyExists("error.task.name.already_exists"));
 
         // When/Then
         assertThatThrownBy(() -> createTaskUseCase.execute(command))
                 .isInstanceOf(DomainResourceAlreadyExists.class)
                 .hasMessage("error.task.name.already_exists");
 
-        verify(persistenceGateway).findByName("Existing Task");
-        verify(persistenceGateway, never()).save(any(Task.class));
+        verify(persistenceGateway).save(any(Task.class));
+        verifyNoInteractions(counterGateway, nameIndex);
     }
 
     @Test
-    @DisplayName("Should check for duplicates using original name (case-insensitive check done in repository)")
-    void shouldCheckForDuplicatesUsingOriginalName() {
+    @DisplayName("Should save task with original name (case-insensitive uniqueness enforced by database)")
+    void shouldSaveTaskWithOriginalName() {
         // Given
         CreateTaskCommand command = new CreateTaskCommand(
                 "New TASK",
@@ -111,13 +118,13 @@ class CreateTaskUseCaseImplTest {
 
         Task savedTask = new Task("550e8400-e29b-41d4-a716-446655440002", "New TASK", "Task Description", TaskStatus.PENDING);
 
-        when(persistenceGateway.findByName(anyString())).thenReturn(Optional.empty());
         when(persistenceGateway.save(any(Task.class))).thenReturn(savedTask);
 
         // When
         createTaskUseCase.execute(command);
 
         // Then
-        verify(persistenceGateway).findByName("New TASK");
+        verify(persistenceGateway).save(argThat(task -> "New TASK".equals(task.getName())));
+        verifyNoMoreInteractions(persistenceGateway);
     }
 }
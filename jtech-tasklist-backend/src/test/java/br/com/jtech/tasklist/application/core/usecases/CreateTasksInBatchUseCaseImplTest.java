@@ -0,0 +1,249 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)CreateTasksInBatchUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemResult;
+import br.com.jtech.tasklist.application.dto.batch.BatchItemStatus;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateTasksInBatchUseCase Tests")
+class CreateTasksInBatchUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
+    private CreateTasksInBatchUseCaseImpl createTasksInBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        createTasksInBatchUseCase = new CreateTasksInBatchUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
+    }
+
+    @Test
+    @DisplayName("Should check names in one query and save accepted tasks in one call")
+    void shouldCheckNamesOnceAndSaveAcceptedTasksTogether() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Task A", "Description A", TaskStatus.PENDING),
+                new CreateTaskCommand("Task B", "Description B", TaskStatus.IN_PROGRESS)
+        );
+
+        when(nameIndex.mightContain(anyString())).thenReturn(true);
+        when(persistenceGateway.findExistingNames(List.of("task a", "task b"))).thenReturn(Set.of());
+        when(persistenceGateway.saveAll(anyList())).thenReturn(List.of(
+                new Task("550e8400-e29b-41d4-a716-446655440001", "Task A", "Description A", TaskStatus.PENDING),
+                new Task("550e8400-e29b-41d4-a716-446655440002", "Task B", "Description B", TaskStatus.IN_PROGRESS)
+        ));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results).allMatch(BatchItemResult::isCreated);
+        assertThat(results.get(0).value().getId()).isEqualTo("550e8400-e29b-41d4-a716-446655440001");
+        assertThat(results.get(1).value().getName()).isEqualTo("Task B");
+
+        verify(persistenceGateway, times(1)).findExistingNames(anyList());
+        verify(persistenceGateway, times(1)).saveAll(anyList());
+        verify(persistenceGateway, never()).save(any(Task.class));
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.PENDING, 1).plus(TaskStatus.IN_PROGRESS, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject names already in database and repeated in the batch, case-insensitively")
+    void shouldRejectExistingAndRepeatedNames() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Existing", "Description", TaskStatus.PENDING),
+                new CreateTaskCommand("Fresh", "Description", TaskStatus.PENDING),
+                new CreateTaskCommand("FRESH", "Description", TaskStatus.PENDING)
+        );
+
+        when(nameIndex.mightContain(anyString())).thenReturn(true);
+        when(persistenceGateway.findExistingNames(anyList())).thenReturn(Set.of("existing"));
+        when(persistenceGateway.saveAll(anyList())).thenReturn(List.of(
+                new Task("550e8400-e29b-41d4-a716-446655440003", "Fresh", "Description", TaskStatus.PENDING)
+        ));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.ALREADY_EXISTS,
+                BatchItemStatus.CREATED,
+                BatchItemStatus.DUPLICATED_IN_BATCH
+        );
+        assertThat(results.get(0).error()).isEqualTo("error.task.name.already_exists");
+        assertThat(results.get(1).index()).isEqualTo(1);
+        assertThat(results.get(2).error()).isEqualTo("error.task.name.duplicated_in_batch");
+
+        verify(persistenceGateway).saveAll(argThat(tasks -> tasks.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should not call save when every item is rejected")
+    void shouldNotSaveWhenEveryItemIsRejected() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Existing", "Description", TaskStatus.PENDING)
+        );
+
+        when(nameIndex.mightContain(anyString())).thenReturn(true);
+        when(persistenceGateway.findExistingNames(anyList())).thenReturn(Set.of("existing"));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).singleElement()
+                .extracting(BatchItemResult::status)
+                .isEqualTo(BatchItemStatus.ALREADY_EXISTS);
+        verify(persistenceGateway, never()).saveAll(anyList());
+        verifyNoInteractions(counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should skip the name query for names the filter rules out and record the probes")
+    void shouldQueryOnlyNamesTheFilterCannotRuleOut() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Brand new", "Description", TaskStatus.PENDING),
+                new CreateTaskCommand("Maybe taken", "Description", TaskStatus.PENDING)
+        );
+
+        when(nameIndex.mightContain("brand new")).thenReturn(false);
+        when(nameIndex.mightContain("maybe taken")).thenReturn(true);
+        when(persistenceGateway.findExistingNames(List.of("maybe taken"))).thenReturn(Set.of());
+        when(persistenceGateway.saveAll(anyList())).thenReturn(List.of(
+                new Task("550e8400-e29b-41d4-a716-446655440004", "Brand new", "Description", TaskStatus.PENDING),
+                new Task("550e8400-e29b-41d4-a716-446655440005", "Maybe taken", "Description", TaskStatus.PENDING)
+        ));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).allMatch(BatchItemResult::isCreated);
+        verify(persistenceGateway).findExistingNames(List.of("maybe taken"));
+        verify(nameIndex).recordProbe(false);
+    }
+
+    @Test
+    @DisplayName("Should not query the database when the filter rules out every name")
+    void shouldNotQueryWhenFilterRulesOutEveryName() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Brand new", "Description", TaskStatus.PENDING)
+        );
+
+        when(persistenceGateway.saveAll(anyList())).thenReturn(List.of(
+                new Task("550e8400-e29b-41d4-a716-446655440006", "Brand new", "Description", TaskStatus.PENDING)
+        ));
+
+        // When
+        createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        verify(persistenceGateway, never()).findExistingNames(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject per item the names taken concurrently and save the rest")
+    void shouldRetryWithoutNamesTakenConcurrently() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Fresh", "Description", TaskStatus.PENDING),
+                new CreateTaskCommand("Taken meanwhile", "Description", TaskStatus.PENDING)
+        );
+
+        when(nameIndex.mightContain(anyString())).thenReturn(true);
+        when(persistenceGateway.findExistingNames(List.of("fresh", "taken meanwhile")))
+                .thenReturn(Set.of(), Set.of("taken meanwhile"));
+        when(persistenceGateway.saveAll(anyList()))
+                .thenThrow(new DomainResourceAlreadyExists("error.task.name.already_exists"))
+                .thenReturn(List.of(
+                        new Task("550e8400-e29b-41d4-a716-446655440007", "Fresh", "Description", TaskStatus.PENDING)
+                ));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.CREATED,
+                BatchItemStatus.ALREADY_EXISTS
+        );
+        verify(persistenceGateway, times(2)).saveAll(anyList());
+        verify(counterGateway, times(1)).apply(TaskStatusDeltas.of(TaskStatus.PENDING, 1));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when the filter does not know a name created by another instance")
+    void shouldFallBackToDatabaseWhenFilterIsStale() {
+        // Given
+        List<CreateTaskCommand> commands = List.of(
+                new CreateTaskCommand("Created elsewhere", "Description", TaskStatus.PENDING),
+                new CreateTaskCommand("Brand new", "Description", TaskStatus.PENDING)
+        );
+
+        when(persistenceGateway.saveAll(anyList()))
+                .thenThrow(new DomainResourceAlreadyExists("error.task.name.already_exists"))
+                .thenReturn(List.of(
+                        new Task("550e8400-e29b-41d4-a716-446655440008", "Brand new", "Description", TaskStatus.PENDING)
+                ));
+        when(persistenceGateway.findExistingNames(List.of("created elsewhere", "brand new")))
+                .thenReturn(Set.of("created elsewhere"));
+
+        // When
+        List<BatchItemResult<TaskOutput>> results = createTasksInBatchUseCase.execute(commands);
+
+        // Then
+        assertThat(results).extracting(BatchItemResult::status).containsExactly(
+                BatchItemStatus.ALREADY_EXISTS,
+                BatchItemStatus.CREATED
+        );
+        verify(nameIndex, never()).recordProbe(anyBoolean());
+    }
+}
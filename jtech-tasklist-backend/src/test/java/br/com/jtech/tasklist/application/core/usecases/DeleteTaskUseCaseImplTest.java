@@ -12,9 +12,12 @@ package br.com.jtech.tasklist.application.core.usecases;
  *  license agreement you entered into with J-Tech.
  *
  */
-import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,11 +39,17 @@ class DeleteTaskUseCaseImplTest {
     @Mock
     private TaskPersistenceGateway persistenceGateway;
 
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
     private DeleteTaskUseCaseImpl deleteTaskUseCase;
 
     @BeforeEach
     void setUp() {
-        deleteTaskUseCase = new DeleteTaskUseCaseImpl(persistenceGateway);
+        deleteTaskUseCase = new DeleteTaskUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
     }
 
     @Test
@@ -48,17 +57,17 @@ class DeleteTaskUseCaseImplTest {
     void shouldDeleteTaskSuccessfully() {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655440000";
-        Task existingTask = new Task(taskId, "Task Name", "Description", TaskStatus.PENDING);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
-        doNothing().when(persistenceGateway).delete(taskId);
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.delete(taskId)).thenReturn(1);
 
         // When
         deleteTaskUseCase.execute(taskId);
 
         // Then
-        verify(persistenceGateway).findById(taskId);
         verify(persistenceGateway).delete(taskId);
+        verify(nameIndex).remove(taskId);
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.PENDING, -1));
     }
 
     @Test
@@ -67,31 +76,68 @@ class DeleteTaskUseCaseImplTest {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655449999";
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.empty());
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> deleteTaskUseCase.execute(taskId))
                 .isInstanceOf(DomainResourceNotFoundException.class)
                 .hasMessage("error.task.not_found");
 
-        verify(persistenceGateway).findById(taskId);
-        verify(persistenceGateway, never()).delete(anyString());
+        verify(persistenceGateway, never()).delete(taskId);
+        verifyNoInteractions(nameIndex, counterGateway);
     }
 
     @Test
-    @DisplayName("Should verify task exists before deleting")
-    void shouldVerifyTaskExistsBeforeDeleting() {
+    @DisplayName("Should delete task locking only its status instead of loading it")
+    void shouldDeleteTaskWithoutLoadingItFirst() {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655440001";
-        Task existingTask = new Task(taskId, "Task Name", "Description", TaskStatus.PENDING);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.COMPLETED));
+        when(persistenceGateway.delete(taskId)).thenReturn(1);
 
         // When
         deleteTaskUseCase.execute(taskId);
 
         // Then
-        verify(persistenceGateway, times(1)).findById(taskId);
+        verify(persistenceGateway).lockStatus(taskId);
         verify(persistenceGateway, times(1)).delete(taskId);
+        verify(persistenceGateway, never()).findById(anyString());
+        verifyNoMoreInteractions(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should delete only when the task is still at the version the client read")
+    void shouldDeleteAtExpectedVersion() {
+        // Given
+        String taskId = "550e8400-e29b-41d4-a716-446655440002";
+
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.delete(taskId, 2L)).thenReturn(1);
+
+        // When
+        deleteTaskUseCase.execute(taskId, 2L);
+
+        // Then
+        verify(persistenceGateway, never()).delete(taskId);
+        verify(nameIndex).remove(taskId);
+        verify(counterGateway).apply(TaskStatusDeltas.of(TaskStatus.PENDING, -1));
+    }
+
+    @Test
+    @DisplayName("Should reject the delete when the task changed since the version the client read")
+    void shouldRejectDeleteWithStaleVersion() {
+        // Given
+        String taskId = "550e8400-e29b-41d4-a716-446655440003";
+
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.delete(taskId, 2L)).thenReturn(0);
+
+        // When/Then
+        assertThatThrownBy(() -> deleteTaskUseCase.execute(taskId, 2L))
+                .isInstanceOf(DomainResourceVersionConflict.class)
+                .hasMessage("error.task.version.conflict");
+
+        verifyNoInteractions(nameIndex, counterGateway);
     }
 }
@@ -0,0 +1,108 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ExistsTaskByNameUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExistsTaskByNameUseCase Tests")
+class ExistsTaskByNameUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    private ExistsTaskByNameUseCaseImpl existsTaskByNameUseCase;
+
+    @BeforeEach
+    void setUp() {
+        existsTaskByNameUseCase = new ExistsTaskByNameUseCaseImpl(persistenceGateway, nameIndex);
+    }
+
+    @Test
+    @DisplayName("Should answer from memory when the filter rules out the name")
+    void shouldSkipQueryWhenFilterRulesOutName() {
+        // Given
+        when(nameIndex.mightContain("Brand new")).thenReturn(false);
+
+        // When
+        boolean exists = existsTaskByNameUseCase.execute("Brand new");
+
+        // Then
+        assertThat(exists).isFalse();
+        verifyNoInteractions(persistenceGateway);
+        verify(nameIndex, never()).recordProbe(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should confirm a probable name in the database and record the probe")
+    void shouldConfirmProbableName() {
+        // Given
+        when(nameIndex.mightContain("Taken")).thenReturn(true);
+        when(persistenceGateway.findByName("Taken"))
+                .thenReturn(Optional.of(new Task("550e8400-e29b-41d4-a716-446655440001", "Taken", "Description", TaskStatus.PENDING)));
+
+        // When
+        boolean exists = existsTaskByNameUseCase.execute("Taken");
+
+        // Then
+        assertThat(exists).isTrue();
+        verify(nameIndex).recordProbe(true);
+    }
+
+    @Test
+    @DisplayName("Should record a false positive when the database does not confirm the name")
+    void shouldRecordFalsePositive() {
+        // Given
+        when(nameIndex.mightContain("Collision")).thenReturn(true);
+        when(persistenceGateway.findByName("Collision")).thenReturn(Optional.empty());
+
+        // When
+        boolean exists = existsTaskByNameUseCase.execute("Collision");
+
+        // Then
+        assertThat(exists).isFalse();
+        verify(nameIndex).recordProbe(false);
+    }
+
+    @Test
+    @DisplayName("Should reject blank names and answer longer names without lookups")
+    void shouldValidateName() {
+        assertThatThrownBy(() -> existsTaskByNameUseCase.execute(" "))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.name.mandatory");
+
+        assertThat(existsTaskByNameUseCase.execute("x".repeat(51))).isFalse();
+        verify(nameIndex, never()).mightContain(anyString());
+    }
+}
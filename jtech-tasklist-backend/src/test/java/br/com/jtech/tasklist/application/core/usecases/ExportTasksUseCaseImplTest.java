@@ -0,0 +1,89 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ExportTasksUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportTasksUseCase Tests")
+class ExportTasksUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    private ExportTasksUseCaseImpl exportTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportTasksUseCase = new ExportTasksUseCaseImpl(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should hand every streamed row to the sink in order")
+    @SuppressWarnings("unchecked")
+    void shouldHandEveryStreamedRowToTheSink() {
+        // Given
+        List<TaskView> rows = List.of(
+                new TaskView("550e8400-e29b-41d4-a716-446655440000", "Task 1", "Description 1", TaskStatus.PENDING, OffsetDateTime.now(), 0L),
+                new TaskView("550e8400-e29b-41d4-a716-446655440001", "Task 2", "Description 2", TaskStatus.COMPLETED, OffsetDateTime.now(), 0L)
+        );
+        when(persistenceGateway.streamAllViews(any())).thenAnswer(invocation -> {
+            Consumer<TaskView> consumer = invocation.getArgument(0);
+            rows.forEach(consumer);
+            return (long) rows.size();
+        });
+        List<TaskOutput> exported = new ArrayList<>();
+
+        // When
+        long count = exportTasksUseCase.execute(exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(TaskOutput::getName).containsExactly("Task 1", "Task 2");
+        assertThat(exported.get(1).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(persistenceGateway).streamAllViews(any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Should export nothing when there are no tasks")
+    void shouldExportNothingWhenThereAreNoTasks() {
+        // Given
+        when(persistenceGateway.streamAllViews(any())).thenReturn(0L);
+        List<TaskOutput> exported = new ArrayList<>();
+
+        // When
+        long count = exportTasksUseCase.execute(exported::add);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(exported).isEmpty();
+    }
+}
@@ -12,9 +12,13 @@ package br.com.jtech.tasklist.application.core.usecases;
  *  license agreement you entered into with J-Tech.
  *
  */
-import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.pagination.SliceResult;
+import br.com.jtech.tasklist.application.dto.pagination.TotalsMode;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,11 +30,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,16 +60,16 @@ class FindAllTasksUseCaseImplTest {
         Pageable pageable = PageRequest.of(0, 20);
         OffsetDateTime now = OffsetDateTime.now();
         
-        Task task1 = new Task("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now);
-        Task task2 = new Task("550e8400-e29b-41d4-a716-446655440002", "Task 2", "Description 2", TaskStatus.IN_PROGRESS, now);
-        Task task3 = new Task("550e8400-e29b-41d4-a716-446655440003", "Task 3", "Description 3", TaskStatus.COMPLETED, now);
+        TaskView task1 = new TaskView("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now, 0L);
+        TaskView task2 = new TaskView("550e8400-e29b-41d4-a716-446655440002", "Task 2", "Description 2", TaskStatus.IN_PROGRESS, now, 0L);
+        TaskView task3 = new TaskView("550e8400-e29b-41d4-a716-446655440003", "Task 3", "Description 3", TaskStatus.COMPLETED, now, 0L);
 
-        Page<Task> tasksPage = new PageImpl<>(List.of(task1, task2, task3), pageable, 3);
+        Page<TaskView> tasksPage = new PageImpl<>(List.of(task1, task2, task3), pageable, 3);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(tasksPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(tasksPage);
 
         // When
-        Page<TaskOutput> result = findAllTasksUseCase.execute(pageable);
+        Page<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
         assertThat(result).isNotNull();
@@ -78,7 +84,7 @@ class FindAllTasksUseCaseImplTest {
         assertThat(result.getContent().get(1).getName()).isEqualTo("Task 2");
         assertThat(result.getContent().get(2).getName()).isEqualTo("Task 3");
 
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
     }
 
     @Test
@@ -88,15 +94,15 @@ class FindAllTasksUseCaseImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         OffsetDateTime now = OffsetDateTime.now();
         
-        Task task1 = new Task("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now);
-        Task task2 = new Task("550e8400-e29b-41d4-a716-446655440002", "Task 2", "Description 2", TaskStatus.PENDING, now);
+        TaskView task1 = new TaskView("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now, 0L);
+        TaskView task2 = new TaskView("550e8400-e29b-41d4-a716-446655440002", "Task 2", "Description 2", TaskStatus.PENDING, now, 0L);
 
-        Page<Task> tasksPage = new PageImpl<>(List.of(task1, task2), pageable, 2);
+        Page<TaskView> tasksPage = new PageImpl<>(List.of(task1, task2), pageable, 2);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(tasksPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(tasksPage);
 
         // When
-        Page<TaskOutput> result = findAllTasksUseCase.execute(pageable);
+        Page<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
         assertThat(result).isNotNull();
@@ -104,7 +110,7 @@ class FindAllTasksUseCaseImplTest {
         assertThat(result.getSize()).isEqualTo(10);
         assertThat(result.getTotalElements()).isEqualTo(2);
 
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
     }
 
     @Test
@@ -112,12 +118,12 @@ class FindAllTasksUseCaseImplTest {
     void shouldReturnEmptyPageWhenNoTasksFound() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Task> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<TaskView> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(emptyPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(emptyPage);
 
         // When
-        Page<TaskOutput> result = findAllTasksUseCase.execute(pageable);
+        Page<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
         assertThat(result).isNotNull();
@@ -125,7 +131,7 @@ class FindAllTasksUseCaseImplTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         assertThat(result.getTotalPages()).isEqualTo(0);
 
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
     }
 
     @Test
@@ -135,15 +141,15 @@ class FindAllTasksUseCaseImplTest {
         Pageable pageable = PageRequest.of(1, 2);
         OffsetDateTime now = OffsetDateTime.now();
         
-        Task task3 = new Task("550e8400-e29b-41d4-a716-446655440003", "Task 3", "Description 3", TaskStatus.COMPLETED, now);
-        Task task4 = new Task("550e8400-e29b-41d4-a716-446655440004", "Task 4", "Description 4", TaskStatus.PENDING, now);
+        TaskView task3 = new TaskView("550e8400-e29b-41d4-a716-446655440003", "Task 3", "Description 3", TaskStatus.COMPLETED, now, 0L);
+        TaskView task4 = new TaskView("550e8400-e29b-41d4-a716-446655440004", "Task 4", "Description 4", TaskStatus.PENDING, now, 0L);
 
-        Page<Task> tasksPage = new PageImpl<>(List.of(task3, task4), pageable, 4);
+        Page<TaskView> tasksPage = new PageImpl<>(List.of(task3, task4), pageable, 4);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(tasksPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(tasksPage);
 
         // When
-        Page<TaskOutput> result = findAllTasksUseCase.execute(pageable);
+        Page<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
         assertThat(result).isNotNull();
@@ -154,7 +160,7 @@ class FindAllTasksUseCaseImplTest {
         assertThat(result.getContent().get(0).getId()).isEqualTo("550e8400-e29b-41d4-a716-446655440003");
         assertThat(result.getContent().get(1).getId()).isEqualTo("550e8400-e29b-41d4-a716-446655440004");
 
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
     }
 
     @Test
@@ -164,14 +170,14 @@ class FindAllTasksUseCaseImplTest {
         Pageable pageable = PageRequest.of(0, 20);
         OffsetDateTime now = OffsetDateTime.now();
         
-        Task task = new Task("550e8400-e29b-41d4-a716-446655440000", "Test Task", "Test Description", TaskStatus.IN_PROGRESS, now);
+        TaskView task = new TaskView("550e8400-e29b-41d4-a716-446655440000", "Test Task", "Test Description", TaskStatus.IN_PROGRESS, now, 0L);
 
-        Page<Task> tasksPage = new PageImpl<>(List.of(task), pageable, 1);
+        Page<TaskView> tasksPage = new PageImpl<>(List.of(task), pageable, 1);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(tasksPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(tasksPage);
 
         // When
-        Page<TaskOutput> result = findAllTasksUseCase.execute(pageable);
+        Page<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
         assertThat(result.getContent()).hasSize(1);
@@ -183,7 +189,7 @@ class FindAllTasksUseCaseImplTest {
         assertThat(taskOutput.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
         assertThat(taskOutput.getCreatedAt()).isNotNull();
 
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
     }
 
     @Test
@@ -191,15 +197,87 @@ class FindAllTasksUseCaseImplTest {
     void shouldCallPersistenceGatewayWithCorrectPageable() {
         // Given
         Pageable pageable = PageRequest.of(2, 15);
-        Page<Task> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<TaskView> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(persistenceGateway.findAll(pageable)).thenReturn(emptyPage);
+        when(persistenceGateway.findAllViews(TaskFilter.none(), pageable)).thenReturn(emptyPage);
 
         // When
-        findAllTasksUseCase.execute(pageable);
+        findAllTasksUseCase.execute(TaskFilter.none(), pageable);
 
         // Then
-        verify(persistenceGateway).findAll(pageable);
+        verify(persistenceGateway).findAllViews(TaskFilter.none(), pageable);
         verifyNoMoreInteractions(persistenceGateway);
     }
+
+    @Test
+    @DisplayName("Should find task slice without counting when totals is NONE")
+    void shouldFindTaskSliceWithoutCountingWhenTotalsIsNone() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        OffsetDateTime now = OffsetDateTime.now();
+        TaskView task = new TaskView("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now, 0L);
+
+        when(persistenceGateway.findAllViewsSlice(TaskFilter.none(), pageable)).thenReturn(new SliceImpl<>(List.of(task), pageable, true));
+
+        // When
+        SliceResult<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable, TotalsMode.NONE);
+
+        // Then
+        assertThat(result.slice().getContent()).hasSize(1);
+        assertThat(result.slice().hasNext()).isTrue();
+        assertThat(result.estimatedTotal()).isNull();
+
+        verify(persistenceGateway).findAllViewsSlice(TaskFilter.none(), pageable);
+        verifyNoMoreInteractions(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should include estimated total when totals is ESTIMATE")
+    void shouldIncludeEstimatedTotalWhenTotalsIsEstimate() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+
+        when(persistenceGateway.findAllViewsSlice(TaskFilter.none(), pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(persistenceGateway.estimateCount()).thenReturn(1500L);
+
+        // When
+        SliceResult<TaskOutput> result = findAllTasksUseCase.execute(TaskFilter.none(), pageable, TotalsMode.ESTIMATE);
+
+        // Then
+        assertThat(result.slice().hasNext()).isFalse();
+        assertThat(result.estimatedTotal()).isEqualTo(1500L);
+
+        verify(persistenceGateway).findAllViewsSlice(TaskFilter.none(), pageable);
+        verify(persistenceGateway).estimateCount();
+        verify(persistenceGateway, never()).findAllViews(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should skip estimated total when the slice is filtered")
+    void shouldSkipEstimatedTotalWhenSliceIsFiltered() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        TaskFilter filter = new TaskFilter(TaskStatus.COMPLETED);
+
+        when(persistenceGateway.findAllViewsSlice(filter, pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        SliceResult<TaskOutput> result = findAllTasksUseCase.execute(filter, pageable, TotalsMode.ESTIMATE);
+
+        // Then
+        assertThat(result.estimatedTotal()).isNull();
+
+        verify(persistenceGateway).findAllViewsSlice(filter, pageable);
+        verify(persistenceGateway, never()).estimateCount();
+    }
+
+    @Test
+    @DisplayName("Should reject a creation period that does not end after it starts")
+    void shouldRejectEmptyCreationPeriod() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        assertThatThrownBy(() -> new TaskFilter(null, now, now))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.filter.created_range.invalid");
+    }
 }
@@ -12,10 +12,10 @@ package br.com.jtech.tasklist.application.core.usecases;
  *  license agreement you entered into with J-Tech.
  *
  */
-import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,9 +50,9 @@ class FindTaskByIdUseCaseImplTest {
     void shouldFindTaskByIdSuccessfully() {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655440000";
-        Task existingTask = new Task(taskId, "Task Name", "Task Description", TaskStatus.PENDING);
+        TaskView existingTask = new TaskView(taskId, "Task Name", "Task Description", TaskStatus.PENDING, OffsetDateTime.now(), 0L);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(persistenceGateway.findViewById(taskId)).thenReturn(Optional.of(existingTask));
 
         // When
         TaskOutput result = findTaskByIdUseCase.execute(taskId);
@@ -63,7 +64,7 @@ class FindTaskByIdUseCaseImplTest {
         assertThat(result.getDescription()).isEqualTo("Task Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.PENDING);
 
-        verify(persistenceGateway).findById(taskId);
+        verify(persistenceGateway).findViewById(taskId);
     }
 
     @Test
@@ -72,14 +73,14 @@ class FindTaskByIdUseCaseImplTest {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655449999";
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.empty());
+        when(persistenceGateway.findViewById(taskId)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> findTaskByIdUseCase.execute(taskId))
                 .isInstanceOf(DomainResourceNotFoundException.class)
                 .hasMessage("error.task.not_found");
 
-        verify(persistenceGateway).findById(taskId);
+        verify(persistenceGateway).findViewById(taskId);
     }
 
     @Test
@@ -87,9 +88,9 @@ class FindTaskByIdUseCaseImplTest {
     void shouldReturnCorrectTaskData() {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655440001";
-        Task task = new Task(taskId, "My Task", "My Description", TaskStatus.COMPLETED);
+        TaskView task = new TaskView(taskId, "My Task", "My Description", TaskStatus.COMPLETED, OffsetDateTime.now(), 0L);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(task));
+        when(persistenceGateway.findViewById(taskId)).thenReturn(Optional.of(task));
 
         // When
         TaskOutput result = findTaskByIdUseCase.execute(taskId);
@@ -106,14 +107,14 @@ class FindTaskByIdUseCaseImplTest {
     void shouldCallPersistenceGatewayOnce() {
         // Given
         String taskId = "550e8400-e29b-41d4-a716-446655440002";
-        Task task = new Task(taskId, "Task", "Description", TaskStatus.PENDING);
+        TaskView task = new TaskView(taskId, "Task", "Description", TaskStatus.PENDING, OffsetDateTime.now(), 0L);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(task));
+        when(persistenceGateway.findViewById(taskId)).thenReturn(Optional.of(task));
 
         // When
         findTaskByIdUseCase.execute(taskId);
 
         // Then
-        verify(persistenceGateway, times(1)).findById(taskId);
+        verify(persistenceGateway, times(1)).findViewById(taskId);
     }
 }
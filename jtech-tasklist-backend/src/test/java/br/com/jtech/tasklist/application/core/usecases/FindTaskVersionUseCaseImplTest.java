@@ -0,0 +1,74 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTaskVersionUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindTaskVersionUseCase Tests")
+class FindTaskVersionUseCaseImplTest {
+
+    private static final String TASK_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    private FindTaskVersionUseCaseImpl findTaskVersionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        findTaskVersionUseCase = new FindTaskVersionUseCaseImpl(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should return the task version without loading the task")
+    void shouldReturnVersionWithoutLoadingTask() {
+        // Given
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2025-03-10T12:30:15.123456Z");
+        when(persistenceGateway.findVersionById(TASK_ID)).thenReturn(Optional.of(new TaskVersion(4L, updatedAt)));
+
+        // When
+        TaskVersion version = findTaskVersionUseCase.execute(TASK_ID);
+
+        // Then
+        assertThat(version).isEqualTo(new TaskVersion("4", updatedAt));
+        verify(persistenceGateway, never()).findViewById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when task not found")
+    void shouldThrowExceptionWhenTaskNotFound() {
+        // Given
+        when(persistenceGateway.findVersionById(TASK_ID)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> findTaskVersionUseCase.execute(TASK_ID))
+                .isInstanceOf(DomainResourceNotFoundException.class)
+                .hasMessage("error.task.not_found");
+    }
+}
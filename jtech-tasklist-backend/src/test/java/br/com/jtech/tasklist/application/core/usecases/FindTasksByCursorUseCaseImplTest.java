@@ -0,0 +1,116 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTasksByCursorUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.KeysetCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskFilter;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindTasksByCursorUseCase Tests")
+class FindTasksByCursorUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    private FindTasksByCursorUseCaseImpl findTasksByCursorUseCase;
+
+    @BeforeEach
+    void setUp() {
+        findTasksByCursorUseCase = new FindTasksByCursorUseCaseImpl(persistenceGateway);
+    }
+
+    @Test
+    @DisplayName("Should request first page when cursor is empty")
+    void shouldRequestFirstPageWhenCursorIsEmpty() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+        TaskView task = new TaskView("550e8400-e29b-41d4-a716-446655440001", "Task 1", "Description 1", TaskStatus.PENDING, now, 0L);
+        KeysetCursor next = new KeysetCursor(now, task.id());
+
+        when(persistenceGateway.findViewsAfter(TaskFilter.none(), null, 1)).thenReturn(new CursorPage<>(List.of(task), next));
+
+        // When
+        CursorPage<TaskOutput> result = findTasksByCursorUseCase.execute(TaskFilter.none(), "", 1);
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.content().get(0).getName()).isEqualTo("Task 1");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.next()).isEqualTo(next);
+
+        verify(persistenceGateway).findViewsAfter(TaskFilter.none(), null, 1);
+    }
+
+    @Test
+    @DisplayName("Should decode cursor and request the following page")
+    void shouldDecodeCursorAndRequestFollowingPage() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(OffsetDateTime.now(), "550e8400-e29b-41d4-a716-446655440001");
+
+        when(persistenceGateway.findViewsAfter(TaskFilter.none(), cursor, 20)).thenReturn(new CursorPage<>(List.of(), null));
+
+        // When
+        CursorPage<TaskOutput> result = findTasksByCursorUseCase.execute(TaskFilter.none(), cursor.encode(), 20);
+
+        // Then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+
+        verify(persistenceGateway).findViewsAfter(TaskFilter.none(), cursor, 20);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cursor")
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> findTasksByCursorUseCase.execute(TaskFilter.none(), "not-a-cursor", 20))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.cursor.invalid");
+
+        verify(persistenceGateway, never()).findViewsAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject page size out of bounds")
+    void shouldRejectPageSizeOutOfBounds() {
+        assertThatThrownBy(() -> findTasksByCursorUseCase.execute(TaskFilter.none(), null, 0))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.size.invalid");
+
+        assertThatThrownBy(() -> findTasksByCursorUseCase.execute(TaskFilter.none(), null, FindTasksByCursorUseCaseImpl.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.size.invalid");
+
+        verifyNoInteractions(persistenceGateway);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)FindTasksVersionUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.dto.task.TaskVersion;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindTasksVersionUseCase Tests")
+class FindTasksVersionUseCaseImplTest {
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
+    private FindTasksVersionUseCaseImpl findTasksVersionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        findTasksVersionUseCase = new FindTasksVersionUseCaseImpl(counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should use the list revision advanced by every write")
+    void shouldUseListRevision() {
+        // Given
+        OffsetDateTime lastChange = OffsetDateTime.parse("2025-03-10T12:30:15.123456Z");
+        when(counterGateway.listVersion()).thenReturn(new TaskVersion("42", lastChange));
+
+        // When
+        TaskVersion version = findTasksVersionUseCase.execute();
+
+        // Then
+        assertThat(version).isEqualTo(new TaskVersion("42", lastChange));
+        verify(counterGateway, never()).current();
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.ports.output.UnitOfWork;
+
+import java.util.function.Supplier;
+
+/**
+ * Executa o trabalho diretamente, sem transação, para os testes unitários dos casos de uso.
+ */
+final class ImmediateUnitOfWork implements UnitOfWork {
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+        return work.get();
+    }
+}
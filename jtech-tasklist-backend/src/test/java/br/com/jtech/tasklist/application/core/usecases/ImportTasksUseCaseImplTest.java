@@ -0,0 +1,131 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)ImportTasksUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.dto.batch.BulkLoadResult;
+import br.com.jtech.tasklist.application.dto.batch.ImportResult;
+import br.com.jtech.tasklist.application.dto.task.CreateTaskCommand;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportTasksUseCase Tests")
+class ImportTasksUseCaseImplTest {
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
+    private ImportTasksUseCaseImpl importTasksUseCase;
+
+    private final List<Task> loaded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importTasksUseCase = new ImportTasksUseCaseImpl(persistenceGateway, nameIndex, counterGateway);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainAndReturn(long inserted, long duplicatedInInput) {
+        when(persistenceGateway.bulkLoad(any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<Task> tasks = invocation.getArgument(0);
+            tasks.forEachRemaining(loaded::add);
+            return new BulkLoadResult(loaded.size(), inserted, duplicatedInInput);
+        });
+    }
+
+    @Test
+    @DisplayName("Should pass valid commands to the bulk load and count invalid ones as rejected")
+    void shouldPassValidCommandsAndCountRejected() {
+        // Given
+        drainAndReturn(2, 0);
+        Iterator<CreateTaskCommand> source = List.of(
+                new CreateTaskCommand("Task 1", "Description 1", TaskStatus.PENDING),
+                new CreateTaskCommand("", "Blank name", TaskStatus.PENDING),
+                new CreateTaskCommand("Task 2", "Description 2", TaskStatus.COMPLETED),
+                new CreateTaskCommand("Task 3", "Missing status", null)
+        ).iterator();
+
+        // When
+        ImportResult result = importTasksUseCase.execute(source);
+
+        // Then
+        assertThat(loaded).extracting(Task::getName).containsExactly("Task 1", "Task 2");
+        assertThat(result.read()).isEqualTo(4);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.elapsed()).isNotNull();
+        verify(nameIndex).rebuild();
+        verify(counterGateway).reconcile();
+    }
+
+    @Test
+    @DisplayName("Should report names discarded by the bulk load")
+    void shouldReportNamesDiscardedByTheBulkLoad() {
+        // Given
+        drainAndReturn(1, 1);
+        Iterator<CreateTaskCommand> source = List.of(
+                new CreateTaskCommand("Task", "First", TaskStatus.PENDING),
+                new CreateTaskCommand("TASK", "Repeated in file", TaskStatus.PENDING),
+                new CreateTaskCommand("Existing", "Already stored", TaskStatus.PENDING)
+        ).iterator();
+
+        // When
+        ImportResult result = importTasksUseCase.execute(source);
+
+        // Then
+        assertThat(result.read()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.duplicatedInInput()).isEqualTo(1);
+        assertThat(result.alreadyExisting()).isEqualTo(1);
+        assertThat(result.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should produce an empty result for an empty source")
+    void shouldProduceEmptyResultForEmptySource() {
+        // Given
+        drainAndReturn(0, 0);
+
+        // When
+        ImportResult result = importTasksUseCase.execute(List.<CreateTaskCommand>of().iterator());
+
+        // Then
+        assertThat(result.read()).isZero();
+        assertThat(result.imported()).isZero();
+        assertThat(result.rowsPerSecond()).isZero();
+        verifyNoInteractions(nameIndex, counterGateway);
+    }
+}
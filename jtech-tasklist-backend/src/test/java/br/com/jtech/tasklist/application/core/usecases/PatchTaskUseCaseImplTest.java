@@ -0,0 +1,176 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)PatchTaskUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
+import br.com.jtech.tasklist.application.dto.task.PatchTaskCommand;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatchTaskUseCase Tests")
+class PatchTaskUseCaseImplTest {
+
+    private static final String TASK_ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Mock
+    private TaskPersistenceGateway persistenceGateway;
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
+    private PatchTaskUseCaseImpl patchTaskUseCase;
+
+    @BeforeEach
+    void setUp() {
+        patchTaskUseCase = new PatchTaskUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
+    }
+
+    private static Task current() {
+        var task = new Task(TASK_ID, "Report", "Quarterly report", TaskStatus.PENDING);
+        task.setVersion(2L);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should change only the status and keep the name index untouched")
+    void shouldPatchStatusOnly() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+        when(persistenceGateway.patch(any(Task.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        // When
+        TaskOutput result = patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, null, null, TaskStatus.COMPLETED, 2L));
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Report");
+        assertThat(result.getDescription()).isEqualTo("Quarterly report");
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(persistenceGateway, never()).update(any(Task.class));
+        verify(counterGateway).apply(TaskStatusDeltas.moved(TaskStatus.PENDING, TaskStatus.COMPLETED, 1));
+        verifyNoInteractions(nameIndex);
+    }
+
+    @Test
+    @DisplayName("Should index the new name when the patch renames the task")
+    void shouldIndexRenamedTask() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+        when(persistenceGateway.patch(any(Task.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        // When
+        TaskOutput result = patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, "Annual report", null, null, null));
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Annual report");
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.PENDING);
+        verify(nameIndex).put(TASK_ID, "Annual report");
+        verify(counterGateway).apply(TaskStatusDeltas.none());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when task not found")
+    void shouldThrowExceptionWhenTaskNotFound() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, null, null, TaskStatus.COMPLETED, null)))
+                .isInstanceOf(DomainResourceNotFoundException.class)
+                .hasMessage("error.task.not_found");
+
+        verify(persistenceGateway, never()).patch(any(Task.class));
+        verifyNoInteractions(nameIndex, counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject the patch when the client read an older version")
+    void shouldRejectPatchWithStaleVersion() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+
+        // When/Then
+        assertThatThrownBy(() -> patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, null, null, TaskStatus.COMPLETED, 1L)))
+                .isInstanceOf(DomainResourceVersionConflict.class)
+                .hasMessage("error.task.version.conflict");
+
+        verify(persistenceGateway, never()).patch(any(Task.class));
+        verifyNoInteractions(nameIndex, counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject the patch when the task changes between the read and the write")
+    void shouldRejectPatchOnConcurrentChange() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+        when(persistenceGateway.patch(any(Task.class))).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, null, null, TaskStatus.COMPLETED, 2L)))
+                .isInstanceOf(DomainResourceVersionConflict.class);
+
+        verifyNoInteractions(nameIndex, counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should propagate a version conflict detected by the UPDATE without touching counters")
+    void shouldPropagateConflictDetectedOnFlush() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+        when(persistenceGateway.patch(any(Task.class))).thenThrow(new OptimisticLockingFailureException("stale"));
+
+        // When/Then
+        assertThatThrownBy(() -> patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, "Renamed", null, null, 2L)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        verifyNoInteractions(nameIndex, counterGateway);
+    }
+
+    @Test
+    @DisplayName("Should validate the patched fields with the domain rules")
+    void shouldRejectBlankName() {
+        // Given
+        when(persistenceGateway.findCurrentById(TASK_ID)).thenReturn(Optional.of(current()));
+
+        // When/Then
+        assertThatThrownBy(() -> patchTaskUseCase.execute(new PatchTaskCommand(TASK_ID, "  ", null, null, null)))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.task.name.null_or_empty");
+
+        verify(persistenceGateway, never()).patch(any(Task.class));
+    }
+}
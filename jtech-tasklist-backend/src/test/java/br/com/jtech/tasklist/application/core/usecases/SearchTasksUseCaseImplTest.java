@@ -0,0 +1,87 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)SearchTasksUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.pagination.CursorPage;
+import br.com.jtech.tasklist.application.dto.pagination.SearchCursor;
+import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchTasksUseCase Tests")
+class SearchTasksUseCaseImplTest {
+
+    @Mock
+    private TaskSearchGateway searchGateway;
+
+    private SearchTasksUseCaseImpl searchTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        searchTasksUseCase = new SearchTasksUseCaseImpl(searchGateway);
+    }
+
+    @Test
+    @DisplayName("Should search with trimmed query and decoded cursor")
+    void shouldSearchWithTrimmedQueryAndDecodedCursor() {
+        // Given
+        SearchCursor after = new SearchCursor(0.25f, "550e8400-e29b-41d4-a716-446655440000");
+        TaskView task = new TaskView("550e8400-e29b-41d4-a716-446655440001", "Write report", "Quarterly report",
+                TaskStatus.PENDING, OffsetDateTime.now(), 0L);
+        when(searchGateway.search("report", after, 10)).thenReturn(new CursorPage<>(List.of(task), null));
+
+        // When
+        CursorPage<TaskOutput> result = searchTasksUseCase.execute("  report ", after.encode(), 10);
+
+        // Then
+        assertThat(result.content()).extracting(TaskOutput::getName).containsExactly("Write report");
+        assertThat(result.hasNext()).isFalse();
+        verify(searchGateway).search("report", after, 10);
+    }
+
+    @Test
+    @DisplayName("Should reject blank query")
+    void shouldRejectBlankQuery() {
+        assertThatThrownBy(() -> searchTasksUseCase.execute("   ", null, 10))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.search.query.invalid");
+
+        verifyNoInteractions(searchGateway);
+    }
+
+    @Test
+    @DisplayName("Should reject page size above the limit")
+    void shouldRejectPageSizeAboveLimit() {
+        assertThatThrownBy(() -> searchTasksUseCase.execute("report", null, SearchTasksUseCaseImpl.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.search.size.invalid");
+
+        verifyNoInteractions(searchGateway);
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/*
+ *  @(#)SuggestTaskNamesUseCaseImplTest.java
+ *
+ *  Copyright (c) J-Tech Solucoes em Informatica.
+ *  All Rights Reserved.
+ *
+ *  This software is the confidential and proprietary information of J-Tech.
+ *  ("Confidential Information"). You shall not disclose such Confidential
+ *  Information and shall use it only in accordance with the terms of the
+ *  license agreement you entered into with J-Tech.
+ *
+ */
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestion;
+import br.com.jtech.tasklist.application.dto.task.TaskNameSuggestions;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuggestTaskNamesUseCase Tests")
+class SuggestTaskNamesUseCaseImplTest {
+
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    private SuggestTaskNamesUseCaseImpl suggestTaskNamesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        suggestTaskNamesUseCase = new SuggestTaskNamesUseCaseImpl(nameIndex);
+    }
+
+    @Test
+    @DisplayName("Should return suggestions and the task already using the name")
+    void shouldReturnSuggestionsAndExactMatch() {
+        // Given
+        var report = new TaskNameSuggestion("550e8400-e29b-41d4-a716-446655440000", "Report");
+        var reportReview = new TaskNameSuggestion("550e8400-e29b-41d4-a716-446655440001", "Report review");
+        when(nameIndex.suggest("report", 5)).thenReturn(List.of(report, reportReview));
+        when(nameIndex.findIdByName("report")).thenReturn(Optional.of(report.id()));
+
+        // When
+        TaskNameSuggestions result = suggestTaskNamesUseCase.execute("report", 5);
+
+        // Then
+        assertThat(result.suggestions()).containsExactly(report, reportReview);
+        assertThat(result.exactMatchId()).isEqualTo(report.id());
+    }
+
+    @Test
+    @DisplayName("Should leave exact match empty when the name is free")
+    void shouldLeaveExactMatchEmptyWhenNameIsFree() {
+        // Given
+        when(nameIndex.suggest("rep", 5)).thenReturn(List.of());
+        when(nameIndex.findIdByName("rep")).thenReturn(Optional.empty());
+
+        // When
+        TaskNameSuggestions result = suggestTaskNamesUseCase.execute("rep", 5);
+
+        // Then
+        assertThat(result.suggestions()).isEmpty();
+        assertThat(result.exactMatchId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject blank prefix")
+    void shouldRejectBlankPrefix() {
+        assertThatThrownBy(() -> suggestTaskNamesUseCase.execute("  ", 5))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.suggest.prefix.invalid");
+
+        verifyNoInteractions(nameIndex);
+    }
+
+    @Test
+    @DisplayName("Should reject limit above the maximum")
+    void shouldRejectLimitAboveMaximum() {
+        assertThatThrownBy(() -> suggestTaskNamesUseCase.execute("rep", SuggestTaskNamesUseCaseImpl.MAX_LIMIT + 1))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.suggest.limit.invalid");
+
+        verifyNoInteractions(nameIndex);
+    }
+}
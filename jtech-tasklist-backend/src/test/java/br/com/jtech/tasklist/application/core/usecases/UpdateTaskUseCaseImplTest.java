@@ -16,8 +16,12 @@ import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceAlreadyExists;
 import br.com.jtech.tasklist.application.core.exceptions.DomainResourceNotFoundException;
+import br.com.jtech.tasklist.application.core.exceptions.DomainResourceVersionConflict;
 import br.com.jtech.tasklist.application.dto.task.UpdateTaskCommand;
 import br.com.jtech.tasklist.application.dto.task.TaskOutput;
+import br.com.jtech.tasklist.application.dto.task.TaskStatusDeltas;
+import br.com.jtech.tasklist.application.ports.output.TaskCounterGateway;
+import br.com.jtech.tasklist.application.ports.output.TaskNameIndex;
 import br.com.jtech.tasklist.application.ports.output.TaskPersistenceGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,11 +45,17 @@ class UpdateTaskUseCaseImplTest {
     @Mock
     private TaskPersistenceGateway persistenceGateway;
 
+    @Mock
+    private TaskNameIndex nameIndex;
+
+    @Mock
+    private TaskCounterGateway counterGateway;
+
     private UpdateTaskUseCaseImpl updateTaskUseCase;
 
     @BeforeEach
     void setUp() {
-        updateTaskUseCase = new UpdateTaskUseCaseImpl(persistenceGateway);
+        updateTaskUseCase = new UpdateTaskUseCaseImpl(persistenceGateway, nameIndex, counterGateway, new ImmediateUnitOfWork());
     }
 
     @Test
@@ -60,12 +70,10 @@ class UpdateTaskUseCaseImplTest {
                 TaskStatus.IN_PROGRESS
         );
 
-        Task existingTask = new Task(taskId, "Old Task", "Old Description", TaskStatus.PENDING);
         Task updatedTask = new Task(taskId, "Updated Task", "Updated Description", TaskStatus.IN_PROGRESS);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(persistenceGateway.findByName(anyString())).thenReturn(Optional.empty());
-        when(persistenceGateway.save(any(Task.class))).thenReturn(updatedTask);
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.update(any(Task.class))).thenReturn(Optional.of(updatedTask));
 
         // When
         TaskOutput result = updateTaskUseCase.execute(command);
@@ -77,9 +85,11 @@ class UpdateTaskUseCaseImplTest {
         assertThat(result.getDescription()).isEqualTo("Updated Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
 
-        verify(persistenceGateway).findById(taskId);
-        verify(persistenceGateway).findByName("Updated Task");
-        verify(persistenceGateway).save(any(Task.class));
+        verify(persistenceGateway).update(any(Task.class));
+        verify(persistenceGateway, never()).findById(anyString());
+        verify(persistenceGateway, never()).save(any(Task.class));
+        verify(nameIndex).put(taskId, "Updated Task");
+        verify(counterGateway).apply(TaskStatusDeltas.moved(TaskStatus.PENDING, TaskStatus.IN_PROGRESS, 1));
     }
 
     @Test
@@ -94,16 +104,15 @@ class UpdateTaskUseCaseImplTest {
                 TaskStatus.IN_PROGRESS
         );
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.empty());
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> updateTaskUseCase.execute(command))
                 .isInstanceOf(DomainResourceNotFoundException.class)
                 .hasMessage("error.task.not_found");
 
-        verify(persistenceGateway).findById(taskId);
-        verify(persistenceGateway, never()).findByName(anyString());
-        verify(persistenceGateway, never()).save(any(Task.class));
+        verify(persistenceGateway, never()).update(any(Task.class));
+        verifyNoInteractions(nameIndex, counterGateway);
     }
 
     @Test
@@ -118,20 +127,20 @@ class UpdateTaskUseCaseImplTest {
                 TaskStatus.IN_PROGRESS
         );
 
-        Task existingTask = new Task(taskId, "Old Task", "Old Description", TaskStatus.PENDING);
-        Task anotherTask = new Task("550e8400-e29b-41d4-a716-446655440002", "Existing Task Name", "Description", TaskStatus.PENDING);
-
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(persistenceGateway.findByName("Existing Task Name")).thenReturn(Optional.of(anotherTask));
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.update(any(Task.class)))
+                .thenThrow(new DomainResourceAlreadyExists("error.task.name.already_exists"));
 
         // When/Then
         assertThatThrownBy(() -> updateTaskUseCase.execute(command))
                 .isInstanceOf(DomainResourceAlreadyExists.class)
                 .hasMessage("error.task.name.already_exists");
 
-        verify(persistenceGateway).findById(taskId);
-        verify(persistenceGateway).findByName("Existing Task Name");
+        verify(persistenceGateway).update(any(Task.class));
+        verify(persistenceGateway, never()).findById(anyString());
         verify(persistenceGateway, never()).save(any(Task.class));
+        verify(persistenceGateway, never()).findByName(anyString());
+        verifyNoInteractions(counterGateway);
     }
 
     @Test
@@ -146,12 +155,10 @@ class UpdateTaskUseCaseImplTest {
                 TaskStatus.IN_PROGRESS
         );
 
-        Task existingTask = new Task(taskId, "Same Task Name", "Old Description", TaskStatus.PENDING);
         Task updatedTask = new Task(taskId, "Same Task Name", "Updated Description", TaskStatus.IN_PROGRESS);
 
-        when(persistenceGateway.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(persistenceGateway.findByName("Same Task Name")).thenReturn(Optional.of(existingTask));
-        when(persistenceGateway.save(any(Task.class))).thenReturn(updatedTask);
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.IN_PROGRESS));
+        when(persistenceGateway.update(any(Task.class))).thenReturn(Optional.of(updatedTask));
 
         // When
         TaskOutput result = updateTaskUseCase.execute(command);
@@ -160,8 +167,29 @@ class UpdateTaskUseCaseImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(taskId);
 
-        verify(persistenceGateway).findById(taskId);
-        verify(persistenceGateway).findByName("Same Task Name");
-        verify(persistenceGateway).save(any(Task.class));
+        verify(persistenceGateway).update(any(Task.class));
+        verify(persistenceGateway, never()).findById(anyString());
+        verify(persistenceGateway, never()).save(any(Task.class));
+        verify(counterGateway).apply(TaskStatusDeltas.none());
+    }
+
+    @Test
+    @DisplayName("Should reject the update when the task changed since the version the client read")
+    void shouldRejectUpdateWithStaleVersion() {
+        // Given
+        String taskId = "550e8400-e29b-41d4-a716-446655440002";
+        UpdateTaskCommand command = new UpdateTaskCommand(
+                taskId, "Updated Task", "Updated Description", TaskStatus.IN_PROGRESS, 3L);
+
+        when(persistenceGateway.lockStatus(taskId)).thenReturn(Optional.of(TaskStatus.PENDING));
+        when(persistenceGateway.update(argThat(task -> Long.valueOf(3L).equals(task.getVersion()))))
+                .thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> updateTaskUseCase.execute(command))
+                .isInstanceOf(DomainResourceVersionConflict.class)
+                .hasMessage("error.task.version.conflict");
+
+        verifyNoInteractions(nameIndex, counterGateway);
     }
 }
@@ -0,0 +1,39 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CursorPage Tests")
+class CursorPageTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should drop the extra row and point next cursor to the last returned row")
+    void shouldBuildNextCursorFromOverfetchedRows() {
+        // When
+        CursorPage<String> page = CursorPage.fromOverfetch(List.of("a", "b", "c"), 2, id -> new KeysetCursor(CREATED_AT, id));
+
+        // Then
+        assertThat(page.content()).containsExactly("a", "b");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.next().id()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("Should have no next cursor when rows fit in the page")
+    void shouldHaveNoNextCursorWhenRowsFit() {
+        // When
+        CursorPage<String> page = CursorPage.fromOverfetch(List.of("a", "b"), 2, id -> new KeysetCursor(CREATED_AT, id));
+
+        // Then
+        assertThat(page.content()).containsExactly("a", "b");
+        assertThat(page.hasNext()).isFalse();
+    }
+}
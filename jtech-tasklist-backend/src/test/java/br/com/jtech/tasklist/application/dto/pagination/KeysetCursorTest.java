@@ -0,0 +1,66 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round trip cursor through opaque token")
+    void shouldRoundTripCursor() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(
+                OffsetDateTime.of(2025, 1, 15, 10, 30, 0, 123456000, ZoneOffset.ofHours(-3)),
+                "550e8400-e29b-41d4-a716-446655440000"
+        );
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should reject token that is not base64")
+    void shouldRejectTokenThatIsNotBase64() {
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.cursor.invalid");
+    }
+
+    @Test
+    @DisplayName("Should reject token without separator")
+    void shouldRejectTokenWithoutSeparator() {
+        String token = encode("2025-01-15T10:30:00Z");
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.cursor.invalid");
+    }
+
+    @Test
+    @DisplayName("Should reject token with invalid date or id")
+    void shouldRejectTokenWithInvalidParts() {
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("yesterday|550e8400-e29b-41d4-a716-446655440000")))
+                .isInstanceOf(DomainInvalidArgumentException.class);
+
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2025-01-15T10:30:00Z|not-an-uuid")))
+                .isInstanceOf(DomainInvalidArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.jtech.tasklist.application.dto.pagination;
+
+import br.com.jtech.tasklist.application.core.exceptions.DomainInvalidArgumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SearchCursor Tests")
+class SearchCursorTest {
+
+    private static final String ID = "550e8400-e29b-41d4-a716-446655440000";
+
+    @Test
+    @DisplayName("Should round trip rank exactly through opaque token")
+    void shouldRoundTripRankExactly() {
+        // Given
+        SearchCursor cursor = new SearchCursor(0.1f / 3, ID);
+
+        // When
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(cursor.rank()));
+    }
+
+    @Test
+    @DisplayName("Should order by rank descending and id ascending")
+    void shouldOrderByRankDescendingAndIdAscending() {
+        SearchCursor cursor = new SearchCursor(0.5f, ID);
+
+        assertThat(cursor.precedes(0.4f, ID)).isTrue();
+        assertThat(cursor.precedes(0.5f, "550e8400-e29b-41d4-a716-446655440001")).isTrue();
+        assertThat(cursor.precedes(0.5f, ID)).isFalse();
+        assertThat(cursor.precedes(0.6f, "550e8400-e29b-41d4-a716-446655440001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject token with invalid rank")
+    void shouldRejectTokenWithInvalidRank() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("high|" + ID).getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> SearchCursor.decode(token))
+                .isInstanceOf(DomainInvalidArgumentException.class)
+                .hasMessage("error.pagination.cursor.invalid");
+    }
+}
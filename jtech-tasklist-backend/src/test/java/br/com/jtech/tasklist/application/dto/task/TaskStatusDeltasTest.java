@@ -0,0 +1,32 @@
+package br.com.jtech.tasklist.application.dto.task;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskStatusDeltas Tests")
+class TaskStatusDeltasTest {
+
+    @Test
+    @DisplayName("Should accumulate deltas per status and drop the ones that cancel out")
+    void shouldAccumulateAndDropZeroDeltas() {
+        TaskStatusDeltas deltas = TaskStatusDeltas.of(TaskStatus.PENDING, 2)
+                .plus(TaskStatus.COMPLETED, 1)
+                .plus(TaskStatus.PENDING, -2);
+
+        assertThat(deltas.values()).isEqualTo(Map.of(TaskStatus.COMPLETED, 1L));
+    }
+
+    @Test
+    @DisplayName("Should move counts between statuses and ignore moves to the same status")
+    void shouldMoveCountsBetweenStatuses() {
+        assertThat(TaskStatusDeltas.moved(TaskStatus.PENDING, TaskStatus.COMPLETED, 3).values())
+                .isEqualTo(Map.of(TaskStatus.PENDING, -3L, TaskStatus.COMPLETED, 3L));
+        assertThat(TaskStatusDeltas.moved(TaskStatus.PENDING, TaskStatus.PENDING, 3).isEmpty()).isTrue();
+        assertThat(TaskStatusDeltas.of(TaskStatus.PENDING, 0)).isEqualTo(TaskStatusDeltas.none());
+    }
+}
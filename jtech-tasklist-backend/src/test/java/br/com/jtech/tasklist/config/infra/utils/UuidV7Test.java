@@ -0,0 +1,116 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    private static final long MILLIS = 1_741_609_815_123L;
+
+    @Test
+    @DisplayName("Should generate RFC 9562 version 7 UUIDs")
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should encode the clock time in milliseconds")
+    void shouldEncodeClockTime() {
+        UUID uuid = UuidV7.fromState(UuidV7.nextState(0, MILLIS));
+
+        assertThat(UuidV7.timestamp(uuid)).isEqualTo(MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should never encode a time before the clock")
+    void shouldNotEncodeTimeBeforeClock() {
+        long before = System.currentTimeMillis();
+
+        // O limite superior depende dos IDs já emitidos nesta JVM: o contador esgotado adianta o instante
+        assertThat(UuidV7.timestamp(UuidV7.next())).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should count within the same millisecond and restart the counter when the clock moves")
+    void shouldCountWithinMillisecond() {
+        long first = UuidV7.nextState(0, MILLIS);
+        long second = UuidV7.nextState(first, MILLIS);
+        long later = UuidV7.nextState(second, MILLIS + 1);
+
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(UuidV7.timestamp(UuidV7.fromState(second))).isEqualTo(MILLIS);
+        assertThat(later).isEqualTo((MILLIS + 1) << 12);
+    }
+
+    @Test
+    @DisplayName("Should move one millisecond ahead of the clock when the counter is exhausted")
+    void shouldRunAheadWhenCounterIsExhausted() {
+        long exhausted = (MILLIS << 12) | 0xFFF;
+
+        long next = UuidV7.nextState(exhausted, MILLIS);
+
+        assertThat(UuidV7.timestamp(UuidV7.fromState(next))).isEqualTo(MILLIS + 1);
+        assertThat(UuidV7.fromState(next)).isGreaterThan(UuidV7.fromState(exhausted));
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs even beyond 4096 per millisecond")
+    void shouldGenerateStrictlyIncreasingUuids() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 20_000; i++) {
+            UUID current = UuidV7.next();
+            assertThat(current).isGreaterThan(previous);
+            assertThat(current.toString()).isGreaterThan(previous.toString());
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate unique UUIDs across concurrent threads")
+    void shouldGenerateUniqueUuidsAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should reject timestamp extraction from non version 7 UUIDs")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS task_counters (status VARCHAR(50) PRIMARY KEY, total BIGINT DEFAULT 0 NOT NULL);
+INSERT INTO task_counters (status, total) VALUES ('PENDING', 0), ('IN_PROGRESS', 0), ('COMPLETED', 0);
+CREATE TABLE IF NOT EXISTS task_list_revision (id SMALLINT PRIMARY KEY, revision BIGINT NOT NULL, changed_at TIMESTAMP WITH TIME ZONE NOT NULL);
+INSERT INTO task_list_revision (id, revision, changed_at) VALUES (1, 0, CURRENT_TIMESTAMP);
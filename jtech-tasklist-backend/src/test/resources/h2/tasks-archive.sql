@@ -0,0 +1 @@
+CREATE TABLE IF NOT EXISTS tasks_archive (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL, description VARCHAR(500) NOT NULL, status VARCHAR(50) NOT NULL, created_at TIMESTAMP WITH TIME ZONE, updated_at TIMESTAMP WITH TIME ZONE, archived_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL);
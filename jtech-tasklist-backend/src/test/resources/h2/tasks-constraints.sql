@@ -0,0 +1,2 @@
+ALTER TABLE tasks ADD COLUMN active_name VARCHAR(50) GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE LOWER(name) END);
+CREATE UNIQUE INDEX ux_tasks_active_name ON tasks (active_name);
@@ -0,0 +1,46 @@
+import { ref, watch, type WatchSource } from 'vue'
+import TaskApiService, { type TaskNameSuggestion } from '@/services/TaskApiService'
+
+const DEBOUNCE_MS = 150
+
+/**
+ * Sugestões de nomes enquanto o usuário digita e aviso de nome já usado por outra task.
+ * `ignoreId` permite que a própria task em edição não seja considerada duplicada.
+ */
+export function useNameSuggestions(name: WatchSource<string>, ignoreId?: string) {
+  const suggestions = ref<TaskNameSuggestion[]>([])
+  const duplicated = ref(false)
+
+  let timeoutId: ReturnType<typeof setTimeout> | null = null
+  let lastRequest = 0
+
+  watch(name, (value) => {
+    if (timeoutId) {
+      clearTimeout(timeoutId)
+    }
+    if (!value.trim()) {
+      suggestions.value = []
+      duplicated.value = false
+      return
+    }
+
+    timeoutId = setTimeout(async () => {
+      const request = ++lastRequest
+      try {
+        const result = await TaskApiService.suggestTaskNames(value)
+        // Descarta respostas que chegaram depois de uma consulta mais recente
+        if (request !== lastRequest) {
+          return
+        }
+        suggestions.value = result.suggestions.filter((suggestion) => suggestion.id !== ignoreId)
+        duplicated.value = result.exactMatchId !== null && result.exactMatchId !== ignoreId
+      } catch {
+        // As sugestões são opcionais; a validação do servidor continua valendo no envio
+        suggestions.value = []
+        duplicated.value = false
+      }
+    }, DEBOUNCE_MS)
+  })
+
+  return { suggestions, duplicated }
+}
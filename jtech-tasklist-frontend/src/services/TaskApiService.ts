@@ -9,16 +9,15 @@ export interface Task {
   status: TaskStatus
   createdAt: string
   updatedAt: string
+  version: number
 }
 
 interface PageResponse<T> {
   content: T[]
-  pageable?: unknown
-  totalPages?: number
-  totalElements?: number
-  last?: boolean
-  size?: number
-  number?: number
+  page: number
+  size: number
+  totalElements: number
+  totalPages: number
 }
 
 export interface CreateTaskRequest {
@@ -33,6 +32,20 @@ export interface UpdateTaskRequest {
   status: TaskStatus
 }
 
+export interface TaskNameSuggestion {
+  id: string
+  name: string
+}
+
+export interface TaskNameSuggestions {
+  suggestions: TaskNameSuggestion[]
+  exactMatchId: string | null
+}
+
+function ifMatch(version: number) {
+  return { 'If-Match': `"${version}"` }
+}
+
 class TaskApiService {
   private http: HttpFactory
 
@@ -45,16 +58,8 @@ class TaskApiService {
 
   async getTasks(): Promise<Task[]> {
     try {
-      const response = await this.http.get<PageResponse<Task> | Task[]>('/tasks?size=1000')
-      // Se vier uma resposta paginada do Spring
-      if (response && typeof response === 'object' && 'content' in response && Array.isArray(response.content)) {
-        return response.content
-      }
-      // Se vier um array direto
-      if (Array.isArray(response)) {
-        return response
-      }
-      return []
+      const response = await this.http.get<PageResponse<Task>>('/tasks?size=1000')
+      return response.content
     } catch (error) {
       // Se for 404, retorna array vazio (não há tarefas cadastradas)
       if ((error as { response?: { status?: number } })?.response?.status === 404) {
@@ -74,6 +79,10 @@ class TaskApiService {
     }
   }
 
+  async suggestTaskNames(prefix: string, limit = 5): Promise<TaskNameSuggestions> {
+    return await this.http.get<TaskNameSuggestions>('/tasks/suggest', { params: { prefix, limit } })
+  }
+
   async createTask(task: CreateTaskRequest): Promise<Task> {
     try {
       return await this.http.post<Task>('/tasks', task)
@@ -83,18 +92,31 @@ class TaskApiService {
     }
   }
 
-  async updateTask(id: string, task: UpdateTaskRequest): Promise<Task> {
+  // A versão lida vai no If-Match: o servidor responde 412 se a tarefa mudou desde então
+  async updateTask(id: string, task: UpdateTaskRequest, version: number): Promise<Task> {
+    try {
+      return await this.http.put<Task>(`/tasks/${id}`, task, { headers: ifMatch(version) })
+    } catch (error) {
+      console.error('Erro ao atualizar task:', error)
+      throw error
+    }
+  }
+
+  // JSON Merge Patch: só os campos alterados vão no corpo
+  async patchTask(id: string, changes: Partial<UpdateTaskRequest>, version: number): Promise<Task> {
     try {
-      return await this.http.put<Task>(`/tasks/${id}`, task)
+      return await this.http.patch<Task>(`/tasks/${id}`, changes, {
+        headers: { ...ifMatch(version), 'Content-Type': 'application/merge-patch+json' },
+      })
     } catch (error) {
       console.error('Erro ao atualizar task:', error)
       throw error
     }
   }
 
-  async deleteTask(id: string): Promise<void> {
+  async deleteTask(id: string, version: number): Promise<void> {
     try {
-      await this.http.delete(`/tasks/${id}`)
+      await this.http.delete(`/tasks/${id}`, { headers: ifMatch(version) })
     } catch (error) {
       console.error(`Erro ao deletar task ${id}:`, error)
       throw error
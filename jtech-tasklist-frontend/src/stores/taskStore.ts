@@ -54,11 +54,38 @@ export const useTaskStore = defineStore('task', () => {
     }
   }
 
+  // Versão da tarefa como foi lida pela lista; sem ela, busca a atual
+  async function versionOf(id: string) {
+    const task = tasks.value.find((t) => t.id === id)
+    return task ? task.version : (await taskApiService.getTaskById(id)).version
+  }
+
+  // 412: outra pessoa alterou a tarefa depois da leitura; recarrega a lista para mostrar o estado atual
+  async function conflictMessage(err: unknown) {
+    if ((err as { response?: { status?: number } })?.response?.status !== 412) {
+      return null
+    }
+    await fetchTasks()
+    return 'A tarefa foi alterada por outra pessoa. A lista foi atualizada; revise e tente novamente.'
+  }
+
+  // Campos do formulário que diferem da tarefa carregada
+  function changedFields(current: Task, task: UpdateTaskRequest) {
+    const changes: Partial<UpdateTaskRequest> = {}
+    if (task.name !== current.name) changes.name = task.name
+    if (task.description !== current.description) changes.description = task.description
+    if (task.status !== current.status) changes.status = task.status
+    return changes
+  }
+
   async function updateTask(id: string, task: UpdateTaskRequest) {
     loading.value = true
     error.value = null
     try {
-      const updatedTask = await taskApiService.updateTask(id, task)
+      const current = tasks.value.find((t) => t.id === id)
+      const updatedTask = current
+        ? await taskApiService.patchTask(id, changedFields(current, task), current.version)
+        : await taskApiService.updateTask(id, task, await versionOf(id))
       const index = tasks.value.findIndex((t) => t.id === id)
       if (index !== -1) {
         tasks.value[index] = updatedTask
@@ -66,7 +93,7 @@ export const useTaskStore = defineStore('task', () => {
       toast.success('Tarefa atualizada com sucesso!')
       return updatedTask
     } catch (err) {
-      const message = extractErrorMessage(err)
+      const message = await conflictMessage(err) ?? extractErrorMessage(err)
       error.value = message
       toast.error(message)
       throw err
@@ -79,11 +106,11 @@ export const useTaskStore = defineStore('task', () => {
     loading.value = true
     error.value = null
     try {
-      await taskApiService.deleteTask(id)
+      await taskApiService.deleteTask(id, await versionOf(id))
       tasks.value = tasks.value.filter(t => t.id !== id)
       toast.success('Tarefa excluída com sucesso!')
     } catch (err) {
-      const message = extractErrorMessage(err)
+      const message = await conflictMessage(err) ?? extractErrorMessage(err)
       error.value = message
       toast.error(message)
       throw err